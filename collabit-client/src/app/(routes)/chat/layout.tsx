@@ -52,6 +52,21 @@ const ChatLayout = ({
     setSendMessage(handleSendMessage);
   }, [clientRef, setSendMessage, connectionStatus, chatId]);
 
+  // 채팅방 입장/퇴장 알림 (보고 있는 채팅방은 서버에서 안 읽음 처리를 생략)
+  useEffect(() => {
+    const client = clientRef.current;
+    if (!client?.connected || connectionStatus !== "connected" || !chatId) {
+      return;
+    }
+    client.publish({ destination: `/app/chat.connect/${chatId}` });
+
+    return () => {
+      if (client.connected) {
+        client.publish({ destination: `/app/chat.disconnect/${chatId}` });
+      }
+    };
+  }, [clientRef, connectionStatus, chatId]);
+
   // 리스트 렌더링
   const { chatList, hasNextPage, fetchNextPage } = useChatRoomList();
 
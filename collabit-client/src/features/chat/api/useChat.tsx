@@ -45,16 +45,16 @@ export const useChat = () => {
     error,
   } = useInfiniteQuery({
     queryKey: ["chatMessages", chatId],
-    queryFn: async ({ pageParam = 0 }) => {
+    queryFn: async ({ pageParam }: { pageParam: string | null }) => {
       const response = await getChatMessagesAPI(chatId!, pageParam);
       if (!response || response.content.length === 0) {
-        return { content: [], hasNext: false, pageNumber: pageParam };
+        return { content: [], hasNext: false, nextCursor: null };
       }
       return response;
     },
     getNextPageParam: (lastPage) =>
-      lastPage.hasNext ? lastPage.pageNumber + 1 : null,
-    initialPageParam: 0,
+      lastPage.hasNext ? lastPage.nextCursor : null,
+    initialPageParam: null as string | null,
     enabled: !!userInfo?.nickname && !!chatId,
   });
 
@@ -80,6 +80,7 @@ export const useChat = () => {
           ...oldData,
           pages: [
             {
+              ...oldData.pages[0], // 다음 페이지 커서 유지
               content: [message, ...oldData.pages[0].content], // 최신 메시지를 가장 앞에 추가
             },
             ...oldData.pages.slice(1),
@@ -6,6 +6,7 @@ import { Client } from "@stomp/stompjs";
 import { useAuth } from "@/features/auth/api/useAuth";
 import { useChatRoomList } from "./useChatRoomList";
 import { useChat } from "@/features/chat/api/useChat";
+import { useToast } from "@/shared/hooks/use-toast";
 const useSocket = () => {
   const [connectionStatus, setConnectionStatus] = useState<string | null>(null);
   const clientRef = useRef<Client | null>(null);
@@ -13,6 +14,7 @@ const useSocket = () => {
   const { userInfo } = useAuth(); // 사용자의 채팅방 목록
   const { chatList } = useChatRoomList();
   const { updateMessages } = useChat();
+  const { toast } = useToast();
 
   // WebSocket 연결 및 구독 설정
   useEffect(() => {
@@ -22,10 +24,13 @@ const useSocket = () => {
     clientRef.current = new Client({
       webSocketFactory: () => socket as unknown as WebSocket,
       reconnectDelay: 5000,
-      connectHeaders: { nickname: userInfo?.nickname },
       heartbeatIncoming: 0,
       heartbeatOutgoing: 0,
       onConnect: () => {
+        // 서버가 혼잡해 메시지를 받지 못한 경우 보낸 사람에게만 전달되는 알림
+        clientRef.current?.subscribe("/user/queue/errors", (message) => {
+          toast({ title: "메시지 전송 실패", description: message.body });
+        });
         setConnectionStatus("connected");
       },
       onDisconnect: () => {
@@ -72,14 +77,22 @@ const useSocket = () => {
       return;
     }
 
-    clientRef.current?.subscribe(`/topic/chat/${roomCode}`, (message) => {
-      const receivedMessage = JSON.parse(message.body);
+    // x-batch: 짧은 시간 동안 도착한 메시지를 배열 하나로 묶어서 받음
+    clientRef.current?.subscribe(
+      `/topic/chat/${roomCode}`,
+      (message) => {
+        const received = JSON.parse(message.body);
+        const receivedMessages = Array.isArray(received) ? received : [received];
 
-      // 받은 메시지가 내가 보낸 메시지가 아닐 때만 추가
-      if (receivedMessage.nickname !== userInfo?.nickname) {
-        updateMessages(receivedMessage);
-      }
-    });
+        // 받은 메시지가 내가 보낸 메시지가 아닐 때만 추가
+        receivedMessages.forEach((receivedMessage) => {
+          if (receivedMessage.nickname !== userInfo?.nickname) {
+            updateMessages(receivedMessage);
+          }
+        });
+      },
+      { "x-batch": "true" },
+    );
   };
 
   return { clientRef, connectionStatus };
@@ -53,10 +53,11 @@ export const getChatRoomDetailAPI = async (roomCode: number) => {
 
 export const getChatMessagesAPI = async (
   roomCode: number,
-  pageNumber: number,
+  cursor: string | null,
 ) => {
+  const query = cursor ? `?cursor=${encodeURIComponent(cursor)}` : "";
   const response = await fetch(
-    `${apiUrl}/chat/rooms/${roomCode}/messages?pageNumber=${pageNumber}`,
+    `${apiUrl}/chat/rooms/${roomCode}/messages${query}`,
     {
       method: "GET",
       ...fetchOptions,
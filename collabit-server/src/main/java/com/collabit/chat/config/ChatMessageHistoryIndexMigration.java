@@ -0,0 +1,38 @@
+package com.collabit.chat.config;
+
+import com.collabit.chat.domain.entity.ChatMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.stereotype.Component;
+
+// 채팅 메시지 (timestamp, _id) 커서 조회용 인덱스 생성 (자동 인덱스 생성이 꺼져 있으므로 직접 생성)
+// _id가 없는 이전 인덱스(room_code_timestamp_idx)는 새 인덱스를 만든 뒤 삭제해 인덱스가 없는 구간이 생기지 않도록 함
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageHistoryIndexMigration implements ApplicationRunner {
+
+    private static final String LEGACY_HISTORY_INDEX = "room_code_timestamp_idx";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        IndexOperations indexOps = mongoTemplate.indexOps(ChatMessage.class);
+        indexOps.ensureIndex(new Index()
+                .on("roomCode", Sort.Direction.ASC)
+                .on("timestamp", Sort.Direction.DESC)
+                .on("_id", Sort.Direction.DESC)
+                .named(ChatMessage.HISTORY_INDEX));
+        if (indexOps.getIndexInfo().stream().anyMatch(index -> LEGACY_HISTORY_INDEX.equals(index.getName()))) {
+            indexOps.dropIndex(LEGACY_HISTORY_INDEX);
+            log.info("이전 채팅 메시지 조회 인덱스 삭제 - {}", LEGACY_HISTORY_INDEX);
+        }
+    }
+}
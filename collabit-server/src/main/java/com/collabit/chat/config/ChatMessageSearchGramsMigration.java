@@ -0,0 +1,72 @@
+package com.collabit.chat.config;
+
+import com.collabit.chat.domain.entity.ChatMessage;
+import com.collabit.chat.service.ChatMessageNgram;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+
+// 검색 기능 도입 이전 채팅 메시지에 searchGrams를 채우고 검색 인덱스를 생성
+// 이후 저장되는 메시지는 모두 searchGrams를 가지므로 채우기가 끝나면 완료 기록을 남기고 다음 기동부터 전체 조회를 생략
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageSearchGramsMigration implements ApplicationRunner {
+
+    private static final String COLLECTION = "chatMessages";
+    private static final String MIGRATION_COLLECTION = "migrations";
+    private static final String MIGRATION_ID = "chat_message_search_grams";
+    private static final int BATCH_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        IndexOperations indexOps = mongoTemplate.indexOps(ChatMessage.class);
+        indexOps.ensureIndex(new Index()
+                .on("roomCode", Sort.Direction.ASC)
+                .on("searchGrams", Sort.Direction.ASC)
+                .on("timestamp", Sort.Direction.DESC)
+                .on("_id", Sort.Direction.DESC)
+                .named(ChatMessage.SEARCH_INDEX));
+
+        Query completed = Query.query(Criteria.where("_id").is(MIGRATION_ID));
+        if (mongoTemplate.exists(completed, MIGRATION_COLLECTION)) return;
+
+        Document legacyFilter = new Document("searchGrams", new Document("$exists", false));
+        Document projection = new Document("message", 1);
+        BulkOperations bulk = null;
+        int pending = 0;
+        int migrated = 0;
+
+        // 1000건 단위 bulk update로 왕복 횟수를 줄임
+        for (Document message : mongoTemplate.getCollection(COLLECTION).find(legacyFilter).projection(projection)) {
+            if (bulk == null) bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatMessage.class);
+            bulk.updateOne(
+                    Query.query(Criteria.where("_id").is(message.get("_id"))),
+                    new Update().set("searchGrams", ChatMessageNgram.of(message.getString("message"))));
+            if (++pending == BATCH_SIZE) {
+                migrated += bulk.execute().getModifiedCount();
+                bulk = null;
+                pending = 0;
+            }
+        }
+        if (pending > 0) migrated += bulk.execute().getModifiedCount();
+
+        mongoTemplate.save(new Document("_id", MIGRATION_ID).append("completedAt", new Date()), MIGRATION_COLLECTION);
+        log.info("채팅 메시지 검색 인덱스 마이그레이션 완료 - {}건", migrated);
+    }
+}
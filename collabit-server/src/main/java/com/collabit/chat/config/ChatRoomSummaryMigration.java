@@ -0,0 +1,55 @@
+package com.collabit.chat.config;
+
+import com.collabit.chat.domain.entity.ChatMessage;
+import com.collabit.chat.domain.entity.ChatRoom;
+import com.collabit.chat.repository.ChatMessageRepository;
+import com.collabit.chat.repository.ChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// 요약 컬럼이 추가되기 전에 만들어진 채팅방의 마지막 메시지/참여자 정보, 읽음 위치 채우기
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomSummaryMigration implements ApplicationRunner {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatMessageRepository chatMessageRepository;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        List<ChatRoom> chatRooms = chatRoomRepository.findByLastMessageAtIsNull();
+        if (!chatRooms.isEmpty()) {
+            fillSummaries(chatRooms);
+        }
+
+        int initialized = chatRoomRepository.initializeUser1LastReadAt() + chatRoomRepository.initializeUser2LastReadAt();
+        if (initialized > 0) {
+            log.info("채팅방 읽음 위치 초기화 완료 - 갱신 수: {}", initialized);
+        }
+    }
+
+    private void fillSummaries(List<ChatRoom> chatRooms) {
+        for (ChatRoom chatRoom : chatRooms) {
+            ChatMessage lastMessage = chatMessageRepository.findTopByRoomCodeOrderByTimestampDesc(chatRoom.getCode());
+            if (lastMessage != null) {
+                chatRoom.updateLastMessage(lastMessage.getMessage(), lastMessage.getTimestamp());
+            } else {
+                chatRoom.updateLastMessage(null, chatRoom.getCreatedAt());
+            }
+            chatRoom.setUser1Nickname(chatRoom.getUser1().getNickname());
+            chatRoom.setUser1ProfileImage(chatRoom.getUser1().getProfileImage());
+            chatRoom.setUser2Nickname(chatRoom.getUser2().getNickname());
+            chatRoom.setUser2ProfileImage(chatRoom.getUser2().getProfileImage());
+        }
+        chatRoomRepository.flush(); // 읽음 위치 초기화가 채워진 lastMessageAt을 사용하도록 먼저 반영
+        log.info("채팅방 요약 정보 마이그레이션 완료 - 채팅방 수: {}", chatRooms.size());
+    }
+}
@@ -0,0 +1,64 @@
+package com.collabit.chat.config;
+
+import com.collabit.global.security.JwtFilter;
+import com.collabit.global.security.TokenProvider;
+import jakarta.servlet.http.Cookie;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.util.Map;
+
+// handshake 요청의 accessToken 쿠키를 WebSocket 세션 속성으로 옮겨 STOMP CONNECT에서 검증하도록 함
+// accessToken이 만료되었으면 JwtFilter와 같이 refreshToken으로 새로 발급해 쿠키와 세션 속성에 설정
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtHandshakeInterceptor implements HandshakeInterceptor {
+
+    public static final String ACCESS_TOKEN_ATTRIBUTE = "accessToken";
+    private static final String REFRESH_TOKEN_COOKIE = "refreshToken";
+
+    private final TokenProvider tokenProvider;
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) return true;
+        Cookie[] cookies = servletRequest.getServletRequest().getCookies();
+        String accessToken = resolveCookie(cookies, ACCESS_TOKEN_ATTRIBUTE);
+        if (accessToken == null || !tokenProvider.validateToken(accessToken)) {
+            String refreshToken = resolveCookie(cookies, REFRESH_TOKEN_COOKIE);
+            if (refreshToken != null && tokenProvider.validateToken(refreshToken)) {
+                accessToken = tokenProvider.createNewAccessToken(refreshToken);
+                if (response instanceof ServletServerHttpResponse servletResponse) {
+                    servletResponse.getServletResponse().addCookie(JwtFilter.createAccessTokenCookie(accessToken));
+                }
+                log.debug("Refreshed access token during WebSocket handshake");
+            }
+        }
+        if (accessToken != null) {
+            attributes.put(ACCESS_TOKEN_ATTRIBUTE, accessToken);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+
+    private String resolveCookie(Cookie[] cookies, String name) {
+        if (cookies == null) return null;
+        for (Cookie cookie : cookies) {
+            if (name.equals(cookie.getName())) return cookie.getValue();
+        }
+        return null;
+    }
+}
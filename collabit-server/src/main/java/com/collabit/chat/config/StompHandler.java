@@ -1,10 +1,8 @@
 package com.collabit.chat.config;
 
 import com.collabit.chat.websocket.WebSocketEvent;
-import com.collabit.global.security.CustomUserDetails;
-import com.collabit.user.exception.UserNotFoundException;
-import com.collabit.user.repository.UserRepository;
-import com.collabit.user.domain.entity.User;
+import com.collabit.global.security.JwtFilter;
+import com.collabit.global.security.TokenProvider;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,21 +13,20 @@ import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
-import java.util.Collections;
-import java.util.Objects;
+import java.util.List;
+import java.util.Map;
 
 @RequiredArgsConstructor
 @Component
 @Slf4j
 public class StompHandler implements ChannelInterceptor {
 
-    private final UserRepository userRepository;
+    private final TokenProvider tokenProvider;
     private final ApplicationEventPublisher eventPublisher;
 
     @Override
@@ -40,20 +37,23 @@ public class StompHandler implements ChannelInterceptor {
         return message;
     }
 
+    // access token(Authorization 헤더 또는 handshake 쿠키)을 검증하고 claims로 인증 정보 생성 (DB 조회 없음)
     private Message<?> handleConnect(Message<?> message, StompHeaderAccessor accessor) {
         try {
-            String nickname = extractNickname(accessor);
-            User user = userRepository.findByNickname(nickname)
-                    .orElseThrow(UserNotFoundException::new);
-            Authentication auth = createAuthentication(user);
+            String accessToken = extractAccessToken(accessor);
+            if (accessToken == null || !tokenProvider.validateToken(accessToken)) {
+                throw new RuntimeException("Valid access token is required");
+            }
+            Authentication auth = tokenProvider.getAuthenticationFromClaims(accessToken);
             accessor.setUser(auth);
             SecurityContext context = SecurityContextHolder.createEmptyContext();
             context.setAuthentication(auth);
             SecurityContextHolder.setContext(context);
 
-            log.debug("WebSocket authentication success: userCode={}", user.getCode());
+            String userCode = auth.getName();
+            log.debug("WebSocket authentication success: userCode={}", userCode);
 
-            eventPublisher.publishEvent(new WebSocketEvent.UserConnectEvent(nickname));
+            eventPublisher.publishEvent(new WebSocketEvent.UserConnectEvent(userCode));
             return message;
         } catch (Exception e) {
             log.error("WebSocket authentication failed: {}", e.getMessage());
@@ -61,29 +61,18 @@ public class StompHandler implements ChannelInterceptor {
         }
     }
 
-    private String extractNickname(StompHeaderAccessor accessor) {
-        return Objects.requireNonNull(accessor.getNativeHeader("nickname")).stream()
-                .findFirst()
-                .filter(nick -> !nick.isBlank())
-                .orElseThrow(() -> new RuntimeException("Nickname is required"));
-    }
-
-    private Authentication createAuthentication(User user) {
-        CustomUserDetails userDetails = new CustomUserDetails(
-                user.getCode(),
-                user.getEmail(),
-                null,
-                user.getNickname(),
-                user.getGithubId(),
-                user.getProfileImage(),
-                Collections.emptyList()
-        );
-
-        return new UsernamePasswordAuthenticationToken(
-                userDetails,
-                null,
-                userDetails.getAuthorities()
-        );
+    private String extractAccessToken(StompHeaderAccessor accessor) {
+        List<String> authorization = accessor.getNativeHeader(JwtFilter.AUTHORIZATION_HEADER);
+        if (authorization != null && !authorization.isEmpty()
+                && authorization.get(0).startsWith(JwtFilter.BEARER_PREFIX)) {
+            return authorization.get(0).substring(JwtFilter.BEARER_PREFIX.length());
+        }
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        if (sessionAttributes != null) {
+            Object token = sessionAttributes.get(JwtHandshakeInterceptor.ACCESS_TOKEN_ATTRIBUTE);
+            if (token instanceof String accessToken) return accessToken;
+        }
+        return null;
     }
 
     @Override
@@ -95,6 +84,8 @@ public class StompHandler implements ChannelInterceptor {
             StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
             if (accessor != null && StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
                 handleSubscribe(accessor);
+            } else if (accessor != null && StompCommand.UNSUBSCRIBE.equals(accessor.getCommand())) {
+                handleUnsubscribe(accessor);
             } else if (accessor != null && StompCommand.DISCONNECT.equals(accessor.getCommand())) {
                 handleDisconnect(accessor);
             }
@@ -109,9 +100,10 @@ public class StompHandler implements ChannelInterceptor {
         if (destination != null && destination.startsWith("/topic/chat/")) {
             try {
                 int roomCode = Integer.parseInt(destination.substring(destination.lastIndexOf('/') + 1));
-                String nickname = accessor.getUser().getName();
-                eventPublisher.publishEvent(new WebSocketEvent.UserSubscribeEvent(nickname, roomCode));
-                log.debug("User {} subscribed to room {}", nickname, roomCode);
+                String userCode = accessor.getUser().getName();
+                eventPublisher.publishEvent(new WebSocketEvent.UserSubscribeEvent(
+                        userCode, roomCode, accessor.getSessionId(), accessor.getSubscriptionId()));
+                log.debug("User {} subscribed to room {}", userCode, roomCode);
             } catch (Exception e) {
                 log.error("Failed to process subscription", e);
                 throw new RuntimeException("Invalid subscription request", e);
@@ -119,12 +111,21 @@ public class StompHandler implements ChannelInterceptor {
         }
     }
 
+    private void handleUnsubscribe(StompHeaderAccessor accessor) {
+        if (accessor.getUser() != null) {
+            String userCode = accessor.getUser().getName();
+            eventPublisher.publishEvent(new WebSocketEvent.UserUnsubscribeEvent(
+                    userCode, accessor.getSessionId(), accessor.getSubscriptionId()));
+            log.debug("User {} unsubscribed {}", userCode, accessor.getSubscriptionId());
+        }
+    }
+
     private void handleDisconnect(StompHeaderAccessor accessor) {
         if (accessor.getUser() != null) {
-            String nickname = accessor.getUser().getName();
-            eventPublisher.publishEvent(new WebSocketEvent.UserDisconnectEvent(nickname));
+            String userCode = accessor.getUser().getName();
+            eventPublisher.publishEvent(new WebSocketEvent.UserDisconnectEvent(userCode, accessor.getSessionId()));
             SecurityContextHolder.clearContext();
-            log.debug("User {} disconnected", nickname);
+            log.debug("User {} disconnected", userCode);
         }
     }
 }
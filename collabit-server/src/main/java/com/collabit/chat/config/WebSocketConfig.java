@@ -1,6 +1,9 @@
 package com.collabit.chat.config;
 
+import com.collabit.chat.websocket.ChatFrameBatcher;
+import com.collabit.chat.websocket.WebSocketSessionMetrics;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
@@ -9,9 +12,8 @@ import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBr
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
-import org.springframework.scheduling.concurrent.ConcurrentTaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.scheduling.TaskScheduler;
-import java.util.concurrent.Executors;
 
 @Configuration
 @EnableWebSocketMessageBroker
@@ -19,17 +21,47 @@ import java.util.concurrent.Executors;
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompHandler stompHandler;
+    private final JwtHandshakeInterceptor jwtHandshakeInterceptor;
+    private final WebSocketSessionMetrics webSocketSessionMetrics;
+    private final ChatFrameBatcher chatFrameBatcher;
+
+    // 클라이언트 -> 서버 메시지 처리 스레드 풀 (queue가 가득 차면 메시지를 거부해 backpressure 적용)
+    @Value("${chat.stomp.inbound.core-pool-size:8}")
+    private int inboundCorePoolSize;
+    @Value("${chat.stomp.inbound.max-pool-size:32}")
+    private int inboundMaxPoolSize;
+    @Value("${chat.stomp.inbound.queue-capacity:10000}")
+    private int inboundQueueCapacity;
+
+    // 서버 -> 클라이언트 메시지 전송 스레드 풀
+    @Value("${chat.stomp.outbound.core-pool-size:8}")
+    private int outboundCorePoolSize;
+    @Value("${chat.stomp.outbound.max-pool-size:32}")
+    private int outboundMaxPoolSize;
+    @Value("${chat.stomp.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
+    @Value("${chat.stomp.heartbeat-pool-size:2}")
+    private int heartbeatPoolSize;
+
+    // 세션별 전송 버퍼 제한 - 초과하거나 전송 시간 제한을 넘기면 느린 세션으로 보고 연결 종료
+    @Value("${chat.stomp.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+    @Value("${chat.stomp.send-time-limit-ms:20000}")
+    private int sendTimeLimitMs;
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws/chat")
                 .setAllowedOriginPatterns("*")
+                .addInterceptors(jwtHandshakeInterceptor)
                 .withSockJS();
     }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic")
+        // /queue: 사용자 개인 알림 (/user/queue/errors)
+        config.enableSimpleBroker("/topic", "/queue")
                 .setHeartbeatValue(new long[]{10000, 10000})
                 .setTaskScheduler(heartBeatScheduler());
         config.setApplicationDestinationPrefixes("/app");
@@ -38,17 +70,35 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(stompHandler);
+        registration.taskExecutor()
+                .corePoolSize(inboundCorePoolSize)
+                .maxPoolSize(inboundMaxPoolSize)
+                .queueCapacity(inboundQueueCapacity);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(chatFrameBatcher); // x-batch 구독은 짧은 시간 동안의 메시지를 묶어서 전송
+        registration.taskExecutor()
+                .corePoolSize(outboundCorePoolSize)
+                .maxPoolSize(outboundMaxPoolSize)
+                .queueCapacity(outboundQueueCapacity);
     }
 
     @Override
     public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
         registration.setMessageSizeLimit(64 * 1024)     // 메시지 크기 제한: 64KB
-                   .setSendBufferSizeLimit(512 * 1024)  // 버퍼 크기: 512KB
-                   .setSendTimeLimit(20 * 1000);        // 전송 시간 제한: 20초
+                   .setSendBufferSizeLimit(sendBufferSizeLimit)
+                   .setSendTimeLimit(sendTimeLimitMs)
+                   .addDecoratorFactory(webSocketSessionMetrics::decorate);
     }
 
     @Bean
     public TaskScheduler heartBeatScheduler() {
-        return new ConcurrentTaskScheduler(Executors.newSingleThreadScheduledExecutor());
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(heartbeatPoolSize);
+        scheduler.setThreadNamePrefix("ws-heartbeat-");
+        scheduler.initialize();
+        return scheduler;
     }
 }
\ No newline at end of file
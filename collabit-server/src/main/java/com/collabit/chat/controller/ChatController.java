@@ -1,17 +1,25 @@
 package com.collabit.chat.controller;
 
 import com.collabit.chat.domain.dto.*;
+import com.collabit.chat.service.ChatMessageExportService;
+import com.collabit.chat.service.ChatMessageSearchService;
 import com.collabit.chat.service.ChatRoomDetailService;
 import com.collabit.chat.service.ChatRoomListService;
+import com.collabit.global.common.CursorResponseDTO;
 import com.collabit.global.common.PageResponseDTO;
 import com.collabit.global.security.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Tag(name = "ChatController", description = "채팅 API")
 @RequiredArgsConstructor
@@ -22,6 +30,12 @@ public class ChatController {
 
     private final ChatRoomListService chatRoomListService;
     private final ChatRoomDetailService chatRoomDetailService;
+    private final ChatMessageSearchService chatMessageSearchService;
+    private final ChatMessageExportService chatMessageExportService;
+
+    // 메시지 내보내기 응답 전체에 허용하는 시간 (기본 비동기 요청 timeout은 Tomcat 기준 30초)
+    @Value("${chat.export.timeout-ms:3600000}")
+    private long exportTimeoutMs;
 
     @Operation(summary = "채팅방 생성 또는 조회", description = "채팅방을 생성하거나 존재하는 채팅방을 조회합니다.")
     @PostMapping("/rooms")
@@ -51,14 +65,15 @@ public class ChatController {
         return ResponseEntity.status(HttpStatus.OK).body(responseDTO);
     }
 
-    @Operation(summary = "채팅방 메시지 조회", description = "채팅방의 메시지를 조회합니다.")
+    @Operation(summary = "채팅방 메시지 조회", description = "채팅방의 메시지를 최신순으로 조회합니다. 다음 페이지는 응답의 nextCursor로 조회합니다.")
     @GetMapping("/rooms/{roomCode}/messages")
-    public ResponseEntity<PageResponseDTO<ChatMessageResponseDTO>> getChatMessages(
+    public ResponseEntity<CursorResponseDTO<ChatMessageResponseDTO>> getChatMessages(
             @PathVariable int roomCode,
-            @RequestParam("pageNumber") int pageNumber) {
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "50") int size) {
         String userCode = SecurityUtil.getCurrentUserCode();
-        PageResponseDTO<ChatMessageResponseDTO> responseDTO =
-            chatRoomDetailService.getChatRoomMessages(userCode, roomCode, pageNumber);
+        CursorResponseDTO<ChatMessageResponseDTO> responseDTO =
+            chatRoomDetailService.getChatRoomMessages(userCode, roomCode, cursor, size);
 
         if (responseDTO.getContent().isEmpty()) {
             return ResponseEntity.noContent().build();
@@ -69,6 +84,39 @@ public class ChatController {
         return ResponseEntity.ok(responseDTO);
     }
 
+    @Operation(summary = "채팅방 메시지 검색", description = "채팅방 메시지를 키워드로 검색합니다. 결과의 cursor로 메시지 조회 API를 호출하면 해당 메시지 이전 대화를 조회합니다.")
+    @GetMapping("/rooms/{roomCode}/messages/search")
+    public ResponseEntity<CursorResponseDTO<ChatMessageSearchResponseDTO>> searchChatMessages(
+            @PathVariable int roomCode,
+            @RequestParam("keyword") String keyword,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        String userCode = SecurityUtil.getCurrentUserCode();
+        CursorResponseDTO<ChatMessageSearchResponseDTO> responseDTO =
+            chatMessageSearchService.searchMessages(userCode, roomCode, keyword, cursor, size);
+        if (responseDTO.getContent().isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(responseDTO);
+    }
+
+    @Operation(summary = "채팅방 메시지 내보내기", description = "채팅방의 전체 메시지를 오래된 순서로 NDJSON 형식으로 내려받습니다. 연결이 끊긴 경우 마지막 줄의 cursor로 이어서 받을 수 있습니다.")
+    @GetMapping(value = "/rooms/{roomCode}/messages/export", produces = "application/x-ndjson")
+    public WebAsyncTask<Void> exportChatMessages(
+            @PathVariable int roomCode,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            HttpServletResponse response) {
+        String userCode = SecurityUtil.getCurrentUserCode();
+        StreamingResponseBody body = chatMessageExportService.exportMessages(userCode, roomCode, cursor);
+        response.setContentType("application/x-ndjson");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"chat-" + roomCode + ".ndjson\"");
+        // 큰 채팅방이 기본 비동기 timeout에 잘리지 않도록 내보내기 전용 timeout으로 스트리밍
+        return new WebAsyncTask<>(exportTimeoutMs, () -> {
+            body.writeTo(response.getOutputStream());
+            return null;
+        });
+    }
+
     @Operation(summary = "닉네임으로 채팅방 조회", description = "닉네임을 기반으로 채팅방을 조회합니다.")
     @GetMapping("/rooms/search")
     public ResponseEntity<ChatRoomResponseDTO> getChatRoomWithNickname(@RequestParam("nickname") String nickname) {
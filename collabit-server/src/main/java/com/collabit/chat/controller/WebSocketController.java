@@ -1,18 +1,23 @@
 package com.collabit.chat.controller;
 
 import com.collabit.chat.domain.dto.WebSocketMessageDTO;
+import com.collabit.chat.exception.ChatOverloadedException;
 import com.collabit.chat.exception.MessageContentEmptyException;
+import com.collabit.chat.exception.UserNotInChatRoomException;
+import com.collabit.chat.service.ChatPresenceService;
 import com.collabit.chat.service.ChatRedisService;
 import com.collabit.chat.service.WebSocketService;
 import com.collabit.global.security.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
-import org.springframework.web.bind.annotation.PathVariable;
 
 @Controller
 @RequiredArgsConstructor
@@ -20,37 +25,54 @@ import org.springframework.web.bind.annotation.PathVariable;
 public class WebSocketController {
 
     private final WebSocketService webSocketService;
+    private final ChatPresenceService chatPresenceService;
 
-    // 연결 설정
+    // 연결 설정 (채팅방 입장 - 보고 있는 동안 안 읽은 메시지 처리 생략)
     @MessageMapping("/chat.connect/{roomCode}")
     @SendTo("/chat/{roomCode}")
-    public String connectToRoom(@PathVariable int roomCode, SimpMessageHeaderAccessor headerAccessor) {
+    public String connectToRoom(@DestinationVariable int roomCode, SimpMessageHeaderAccessor headerAccessor) {
         String userCode = getUserCodeFromHeader(headerAccessor);
+        chatPresenceService.enter(userCode, headerAccessor.getSessionId(), roomCode);
         log.debug("User {} connected to room {}", userCode, roomCode);
         return "구독 성공: " + roomCode;
     }
 
-    // 메시지 전송
+    // 메시지 전송 (구독자 전달은 WebSocketService -> Redis -> RedisSubscriber 경로로만 수행)
     @MessageMapping("/chat.message/{roomCode}")
-    @SendTo("/chat/{roomCode}")
-    public WebSocketMessageDTO sendMessageToRoom(WebSocketMessageDTO message,
-                                                 SimpMessageHeaderAccessor headerAccessor) {
+    public void sendMessageToRoom(WebSocketMessageDTO message,
+                                  SimpMessageHeaderAccessor headerAccessor) {
         String userCode = getUserCodeFromHeader(headerAccessor);
         if (message == null || message.getMessage() == null) {
             throw new MessageContentEmptyException();
         }
         webSocketService.handleChatMessage(message, userCode);
         log.debug("Message sent to room {}: {}", message.getRoomCode(), message);
-        return message;
     }
 
-    // 연결 해제
+    // 연결 해제 (채팅방 퇴장)
     @MessageMapping("/chat.disconnect/{roomCode}")
-    public void disconnect(@PathVariable int roomCode, SimpMessageHeaderAccessor headerAccessor) {
+    public void disconnect(@DestinationVariable int roomCode, SimpMessageHeaderAccessor headerAccessor) {
         String userCode = getUserCodeFromHeader(headerAccessor);
+        chatPresenceService.leave(userCode, headerAccessor.getSessionId(), roomCode);
         log.debug("User {} disconnected from room {}", userCode, roomCode);
     }
 
+    // 처리 대기열이 가득 차 메시지를 받지 못한 경우 보낸 사람에게만 알림
+    @MessageExceptionHandler(ChatOverloadedException.class)
+    @SendToUser(destinations = WebSocketService.ERROR_DESTINATION, broadcast = false)
+    public String handleOverloaded(ChatOverloadedException e) {
+        log.warn("Chat message rejected: {}", e.getMessage());
+        return e.getMessage();
+    }
+
+    // 참여하지 않은 채팅방으로 보낸 메시지는 전달하지 않고 보낸 사람에게만 알림
+    @MessageExceptionHandler(UserNotInChatRoomException.class)
+    @SendToUser(destinations = WebSocketService.ERROR_DESTINATION, broadcast = false)
+    public String handleNotInChatRoom(UserNotInChatRoomException e) {
+        log.warn("Chat message rejected: {}", e.getMessage());
+        return e.getMessage();
+    }
+
     private String getUserCodeFromHeader(SimpMessageHeaderAccessor headerAccessor) {
         if (headerAccessor.getUser() instanceof Authentication auth
                 && auth.getPrincipal() instanceof CustomUserDetails userDetails) {
@@ -0,0 +1,18 @@
+package com.collabit.chat.domain.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChatMessageExportDTO {
+    private String nickname;
+    private String message;
+    private LocalDateTime timestamp;
+    private String cursor; // 내보내기가 중단되면 마지막 줄의 cursor로 이어받기
+}
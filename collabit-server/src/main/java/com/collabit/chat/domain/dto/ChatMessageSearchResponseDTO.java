@@ -0,0 +1,18 @@
+package com.collabit.chat.domain.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChatMessageSearchResponseDTO {
+    private String nickname;
+    private String message;
+    private LocalDateTime timestamp;
+    private String cursor; // 메시지 조회 API에 넘기면 이 메시지 이전 메시지부터 조회
+}
@@ -0,0 +1,11 @@
+package com.collabit.chat.domain.dto;
+
+import java.time.LocalDateTime;
+
+// DB 반영 대기 중인 채팅방 마지막 메시지 정보
+public record ChatRoomActivity(String lastMessage, LocalDateTime lastMessageAt) {
+
+    public ChatRoomActivity newer(ChatRoomActivity other) {
+        return other.lastMessageAt().isAfter(lastMessageAt) ? other : this;
+    }
+}
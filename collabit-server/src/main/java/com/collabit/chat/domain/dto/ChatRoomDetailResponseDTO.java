@@ -2,6 +2,8 @@ package com.collabit.chat.domain.dto;
 
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Setter
 @Builder
@@ -11,4 +13,5 @@ import lombok.*;
 public class ChatRoomDetailResponseDTO {
     String nickname;
     String profileImage;
+    LocalDateTime otherLastReadAt;
 }
@@ -0,0 +1,29 @@
+package com.collabit.chat.domain.dto;
+
+import com.collabit.chat.exception.UserNotInChatRoomException;
+
+// 채팅방 참여자 정보 (참여자는 생성 이후 변경되지 않고, 닉네임만 프로필 변경 시 갱신됨)
+public record ChatRoomMembership(int roomCode, String userCode1, String userCode2, String nickname1, String nickname2) {
+
+    public boolean contains(String userCode) {
+        return userCode1.equals(userCode) || userCode2.equals(userCode);
+    }
+
+    public String getOtherUserCode(String userCode) {
+        if (userCode1.equals(userCode)) return userCode2;
+        if (userCode2.equals(userCode)) return userCode1;
+        throw new UserNotInChatRoomException();
+    }
+
+    public String getNickname(String userCode) {
+        if (userCode1.equals(userCode)) return nickname1;
+        if (userCode2.equals(userCode)) return nickname2;
+        throw new UserNotInChatRoomException();
+    }
+
+    public ChatRoomMembership withNickname(String userCode, String nickname) {
+        if (userCode1.equals(userCode)) return new ChatRoomMembership(roomCode, userCode1, userCode2, nickname, nickname2);
+        if (userCode2.equals(userCode)) return new ChatRoomMembership(roomCode, userCode1, userCode2, nickname1, nickname);
+        return this;
+    }
+}
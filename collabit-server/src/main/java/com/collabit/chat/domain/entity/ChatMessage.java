@@ -3,9 +3,11 @@ package com.collabit.chat.domain.entity;
 import jakarta.persistence.Id;
 import lombok.*;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 @Setter
@@ -14,14 +16,24 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "chatMessages")
-@CompoundIndex(name = "room_code_timestamp_idx", def = "{'roomCode' : 1, 'timestamp' : -1}")
+// _id를 동순위 정렬 키로 포함해 (timestamp, _id) 커서 조회가 인덱스 순서만으로 처리되도록 함
+@CompoundIndexes({
+        @CompoundIndex(name = ChatMessage.HISTORY_INDEX, def = "{'roomCode' : 1, 'timestamp' : -1, '_id' : -1}"),
+        // 채팅방 내 검색용 multikey 인덱스 (ChatMessageNgram 참고)
+        // 2-gram 하나가 등치 조건이므로 (timestamp, _id) 순서도 인덱스에서 바로 읽음 (메모리 정렬 없음)
+        @CompoundIndex(name = ChatMessage.SEARCH_INDEX, def = "{'roomCode' : 1, 'searchGrams' : 1, 'timestamp' : -1, '_id' : -1}")
+})
 public class ChatMessage {
+    public static final String HISTORY_INDEX = "room_code_timestamp_id_idx";
+    public static final String SEARCH_INDEX = "room_code_search_grams_timestamp_idx";
+
     @Id
     private String _id;
 
     private int roomCode;
     private String userCode;
+    private String nickname; // 발신 시점의 닉네임 스냅샷
     private String message;
     private LocalDateTime timestamp;
-    private boolean isRead;
+    private List<String> searchGrams; // 검색용 2-gram, 응답에는 포함하지 않음
 }
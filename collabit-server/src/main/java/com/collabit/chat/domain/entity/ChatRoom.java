@@ -5,6 +5,8 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
 
 @Getter
 @Setter
@@ -13,9 +15,15 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table
+@Table(indexes = {
+        // 채팅방 목록 조회용 (참여자별 최신 메시지순)
+        @Index(name = "idx_chat_room_user1_last_message", columnList = "userCode1, lastMessageAt"),
+        @Index(name = "idx_chat_room_user2_last_message", columnList = "userCode2, lastMessageAt")
+})
 public class ChatRoom {
 
+    public static final int LAST_MESSAGE_PREVIEW_LENGTH = 100;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private int code;
@@ -37,6 +45,25 @@ public class ChatRoom {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    // ===== 채팅방 목록용 요약 정보 (메시지 저장, 프로필 변경 시 갱신) =====
+    @Column(length = LAST_MESSAGE_PREVIEW_LENGTH)
+    private String lastMessage;
+
+    private LocalDateTime lastMessageAt;
+
+    private String user1Nickname;
+
+    private String user1ProfileImage;
+
+    private String user2Nickname;
+
+    private String user2ProfileImage;
+
+    // ===== 참여자별 마지막으로 읽은 시각 (읽음 확인, 안 읽은 메시지 수 재계산용) =====
+    private LocalDateTime user1LastReadAt;
+
+    private LocalDateTime user2LastReadAt;
+
     public static String generateChatRoomCode(String userCode1, String userCode2) {
         if (userCode1.compareTo(userCode2) < 0) {
             return userCode1 + "-" + userCode2;
@@ -45,6 +72,30 @@ public class ChatRoom {
         }
     }
 
+    // 참여자 userCode -> 현재 닉네임 (닉네임 변경 시 요약 컬럼이 함께 갱신됨)
+    public Map<String, String> getParticipantNicknames() {
+        Map<String, String> nicknames = new HashMap<>();
+        nicknames.put(user1.getCode(), user1Nickname);
+        nicknames.put(user2.getCode(), user2Nickname);
+        return nicknames;
+    }
+
+    public LocalDateTime getLastReadAt(String userCode) {
+        return user1.getCode().equals(userCode) ? user1LastReadAt : user2LastReadAt;
+    }
+
+    // 마지막 메시지 미리보기 갱신
+    public void updateLastMessage(String message, LocalDateTime timestamp) {
+        this.lastMessage = previewOf(message);
+        this.lastMessageAt = timestamp;
+    }
+
+    public static String previewOf(String message) {
+        return message != null && message.length() > LAST_MESSAGE_PREVIEW_LENGTH
+                ? message.substring(0, LAST_MESSAGE_PREVIEW_LENGTH)
+                : message;
+    }
+
     @PrePersist
     public void prePersist() {
         this.createdAt = LocalDateTime.now();
@@ -0,0 +1,7 @@
+package com.collabit.chat.exception;
+
+public class ChatMessageNotSavedException extends RuntimeException {
+    public ChatMessageNotSavedException() {
+        super("메시지를 저장하지 못했습니다. 다시 보내주세요.");
+    }
+}
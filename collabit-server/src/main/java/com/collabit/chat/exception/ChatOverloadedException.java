@@ -0,0 +1,8 @@
+package com.collabit.chat.exception;
+
+public class ChatOverloadedException extends RuntimeException {
+    public ChatOverloadedException() {
+        super("채팅 서버가 혼잡합니다. 잠시 후 다시 시도해주세요.");
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.collabit.chat.redis;
+
+import com.collabit.chat.websocket.WebSocketEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 이 서버에 구독자가 있는 채팅방의 Redis 채널(chat_message:{roomCode})만 구독
+// 모든 노드는 메시지를 Redis로만 발행하고, 채널을 구독 중인 노드가 로컬 구독자에게 한 번씩 전달함
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomRelay {
+
+    public static final String CHANNEL_PREFIX = "chat_message:";
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final RedisSubscriber redisSubscriber;
+
+    // sessionId -> (subscriptionId -> roomCode)
+    private final Map<String, Map<String, Integer>> sessionSubscriptions = new HashMap<>();
+    // roomCode -> 이 서버의 구독 수
+    private final Map<Integer, Integer> roomSubscriberCounts = new HashMap<>();
+
+    public static String channelOf(int roomCode) {
+        return CHANNEL_PREFIX + roomCode;
+    }
+
+    @EventListener
+    public synchronized void onSubscribe(WebSocketEvent.UserSubscribeEvent event) {
+        Integer previous = sessionSubscriptions
+                .computeIfAbsent(event.getSessionId(), id -> new HashMap<>())
+                .put(event.getSubscriptionId(), event.getRoomCode());
+        if (previous != null) {
+            release(previous);
+        }
+        int count = roomSubscriberCounts.merge(event.getRoomCode(), 1, Integer::sum);
+        if (count == 1) {
+            redisMessageListenerContainer.addMessageListener(redisSubscriber, new ChannelTopic(channelOf(event.getRoomCode())));
+            log.debug("Relay subscribed to room {}", event.getRoomCode());
+        }
+    }
+
+    @EventListener
+    public synchronized void onUnsubscribe(WebSocketEvent.UserUnsubscribeEvent event) {
+        Map<String, Integer> subscriptions = sessionSubscriptions.get(event.getSessionId());
+        if (subscriptions == null) return;
+        Integer roomCode = subscriptions.remove(event.getSubscriptionId());
+        if (subscriptions.isEmpty()) {
+            sessionSubscriptions.remove(event.getSessionId());
+        }
+        if (roomCode != null) {
+            release(roomCode);
+        }
+    }
+
+    @EventListener
+    public synchronized void onDisconnect(WebSocketEvent.UserDisconnectEvent event) {
+        Map<String, Integer> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        if (subscriptions == null) return;
+        subscriptions.values().forEach(this::release);
+    }
+
+    // 이 서버에 구독자가 남아있는 채팅방인지 확인
+    public synchronized boolean hasLocalSubscribers(int roomCode) {
+        return roomSubscriberCounts.containsKey(roomCode);
+    }
+
+    private void release(int roomCode) {
+        Integer count = roomSubscriberCounts.computeIfPresent(roomCode, (code, c) -> c > 1 ? c - 1 : null);
+        if (count == null) {
+            redisMessageListenerContainer.removeMessageListener(redisSubscriber, new ChannelTopic(channelOf(roomCode)));
+            log.debug("Relay unsubscribed from room {}", roomCode);
+        }
+    }
+}
@@ -5,6 +5,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+
 @RequiredArgsConstructor
 @Service
 @Slf4j
@@ -12,9 +14,10 @@ public class RedisPublisher {
 
     private final RedisTemplate<String, Object> redisTemplate;
 
-    // Redis 채널에 메시지 발행
-    public void publish(String channel, Object message) {
-        log.debug("Publishing message {} on Channel {}", message.toString(), channel);
-        redisTemplate.convertAndSend(channel, message);
+    // Redis 채널에 이미 직렬화된 메시지 발행 (serializer를 거치지 않고 그대로 전송)
+    public void publish(String channel, byte[] payload) {
+        log.debug("Publishing {} bytes on Channel {}", payload.length, channel);
+        byte[] rawChannel = channel.getBytes(StandardCharsets.UTF_8);
+        redisTemplate.execute(connection -> connection.publish(rawChannel, payload), true);
     }
 }
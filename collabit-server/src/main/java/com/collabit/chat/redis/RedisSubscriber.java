@@ -1,15 +1,17 @@
 package com.collabit.chat.redis;
 
-import com.collabit.chat.domain.dto.WebSocketMessageDTO;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Service;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
+import org.springframework.util.MimeTypeUtils;
 
 import java.nio.charset.StandardCharsets;
 
@@ -19,17 +21,21 @@ import java.nio.charset.StandardCharsets;
 @Service
 public class RedisSubscriber implements MessageListener {
 
-    private final ObjectMapper objectMapper;
     private final SimpMessagingTemplate messagingTemplate;
 
+    // 채널명(chat_message:{roomCode})에서 채팅방을 판별하고, 받은 JSON 바이트를 파싱 없이 그대로 STOMP로 전달
     @Override
     public void onMessage(@NonNull Message message, @Nullable byte[] pattern) {
         try {
-            String body = new String(message.getBody(), StandardCharsets.UTF_8);
-            WebSocketMessageDTO webSocketMessage = objectMapper.readValue(body, WebSocketMessageDTO.class);
-            log.debug("Redis message received: {}", body);
-            String destination = "/topic/chat/" + webSocketMessage.getRoomCode();
-            messagingTemplate.convertAndSend(destination, message);
+            String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+            String roomCode = channel.substring(ChatRoomRelay.CHANNEL_PREFIX.length());
+            log.debug("Redis message received on {}: {} bytes", channel, message.getBody().length);
+
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            accessor.setLeaveMutable(true);
+            messagingTemplate.send("/topic/chat/" + roomCode,
+                    MessageBuilder.createMessage(message.getBody(), accessor.getMessageHeaders()));
         } catch (Exception e) {
             log.error("Failed to process Redis message", e);
         }
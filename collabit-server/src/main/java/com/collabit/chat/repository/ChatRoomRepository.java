@@ -1,14 +1,19 @@
 package com.collabit.chat.repository;
 
+import com.collabit.chat.domain.dto.ChatRoomMembership;
 import com.collabit.chat.domain.entity.ChatRoom;
 import com.collabit.user.domain.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -18,4 +23,55 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Integer> {
 
     //유저가 속한 모든 채팅방 확인
     Page<ChatRoom> findByUser1OrUser2(User user1, User user2, Pageable pageable);
+
+    //유저가 속한 채팅방 요약 목록 (참여자 정보는 요약 컬럼 사용, user join 없음)
+    @Query("SELECT c FROM ChatRoom c WHERE c.user1.code = :userCode OR c.user2.code = :userCode")
+    Page<ChatRoom> findByParticipantCode(@Param("userCode") String userCode, Pageable pageable);
+
+    //프로필 변경 시 채팅방 요약의 참여자 정보 갱신
+    @Modifying
+    @Query("UPDATE ChatRoom c SET c.user1Nickname = :nickname, c.user1ProfileImage = :profileImage WHERE c.user1.code = :userCode")
+    int updateUser1Profile(@Param("userCode") String userCode, @Param("nickname") String nickname, @Param("profileImage") String profileImage);
+
+    @Modifying
+    @Query("UPDATE ChatRoom c SET c.user2Nickname = :nickname, c.user2ProfileImage = :profileImage WHERE c.user2.code = :userCode")
+    int updateUser2Profile(@Param("userCode") String userCode, @Param("nickname") String nickname, @Param("profileImage") String profileImage);
+
+    //채팅방 참여자 정보 (user join 없이 FK만 조회)
+    @Query("SELECT new com.collabit.chat.domain.dto.ChatRoomMembership(c.code, c.user1.code, c.user2.code, c.user1Nickname, c.user2Nickname) FROM ChatRoom c WHERE c.code = :roomCode")
+    Optional<ChatRoomMembership> findMembershipByCode(@Param("roomCode") int roomCode);
+
+    //최근 대화순 채팅방 참여자 정보 (캐시 warm-up용)
+    @Query("SELECT new com.collabit.chat.domain.dto.ChatRoomMembership(c.code, c.user1.code, c.user2.code, c.user1Nickname, c.user2Nickname) FROM ChatRoom c ORDER BY c.lastMessageAt DESC")
+    List<ChatRoomMembership> findRecentMemberships(Pageable pageable);
+
+    //마지막 메시지 갱신 (기존 값보다 뒤일 때만)
+    @Transactional
+    @Modifying
+    @Query("UPDATE ChatRoom c SET c.lastMessage = :lastMessage, c.lastMessageAt = :lastMessageAt, c.updatedAt = :updatedAt WHERE c.code = :roomCode AND (c.lastMessageAt IS NULL OR c.lastMessageAt < :lastMessageAt)")
+    int updateLastMessage(@Param("roomCode") int roomCode, @Param("lastMessage") String lastMessage,
+                          @Param("lastMessageAt") LocalDateTime lastMessageAt, @Param("updatedAt") LocalDateTime updatedAt);
+
+    //읽음 위치 갱신 (기존 값보다 뒤일 때만)
+    @Transactional
+    @Modifying
+    @Query("UPDATE ChatRoom c SET c.user1LastReadAt = :readAt WHERE c.code = :roomCode AND c.user1.code = :userCode AND (c.user1LastReadAt IS NULL OR c.user1LastReadAt < :readAt)")
+    int advanceUser1LastReadAt(@Param("roomCode") int roomCode, @Param("userCode") String userCode, @Param("readAt") LocalDateTime readAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ChatRoom c SET c.user2LastReadAt = :readAt WHERE c.code = :roomCode AND c.user2.code = :userCode AND (c.user2LastReadAt IS NULL OR c.user2LastReadAt < :readAt)")
+    int advanceUser2LastReadAt(@Param("roomCode") int roomCode, @Param("userCode") String userCode, @Param("readAt") LocalDateTime readAt);
+
+    //읽음 위치가 없는 기존 채팅방은 마지막 메시지까지 읽은 것으로 초기화 (안 읽은 수는 기존 Redis 카운터 유지)
+    @Modifying
+    @Query("UPDATE ChatRoom c SET c.user1LastReadAt = c.lastMessageAt WHERE c.user1LastReadAt IS NULL")
+    int initializeUser1LastReadAt();
+
+    @Modifying
+    @Query("UPDATE ChatRoom c SET c.user2LastReadAt = c.lastMessageAt WHERE c.user2LastReadAt IS NULL")
+    int initializeUser2LastReadAt();
+
+    //요약 정보가 채워지지 않은 기존 채팅방
+    List<ChatRoom> findByLastMessageAtIsNull();
 }
@@ -0,0 +1,233 @@
+package com.collabit.chat.service;
+
+import com.collabit.chat.domain.entity.ChatMessage;
+import com.collabit.chat.exception.ChatOverloadedException;
+import com.mongodb.bulk.BulkWriteError;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// 채팅 메시지를 모아서 MongoDB에 ordered bulk insert로 저장하는 write-behind 저장소
+// 단일 writer 스레드가 FIFO 큐를 순서대로 저장하고 future도 같은 순서로 완료하므로 채팅방별 메시지 순서가 유지됨
+// 큐가 가득 차면 enqueue-timeout-ms 동안 기다린 뒤 저장 실패로 처리 (MongoDB가 느려질 때 메모리가 무한히 늘지 않도록)
+@Slf4j
+@Service
+public class ChatMessageBatchWriter {
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final MongoTemplate mongoTemplate;
+    private final LinkedBlockingQueue<PendingMessage> queue;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "chat-message-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Timer flushTimer;
+    private final Timer lagTimer;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+
+    @Value("${chat.persistence.batch-size:100}")
+    private int batchSize;
+
+    @Value("${chat.persistence.flush-interval-ms:50}")
+    private long flushIntervalMs;
+
+    @Value("${chat.persistence.max-retries:3}")
+    private int maxRetries;
+
+    @Value("${chat.persistence.retry-backoff-ms:100}")
+    private long retryBackoffMs;
+
+    @Value("${chat.persistence.enqueue-timeout-ms:100}")
+    private long enqueueTimeoutMs;
+
+    private volatile boolean running = true;
+
+    public ChatMessageBatchWriter(MongoTemplate mongoTemplate, MeterRegistry meterRegistry,
+                                  @Value("${chat.persistence.queue-capacity:10000}") int queueCapacity) {
+        this.mongoTemplate = mongoTemplate;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        Gauge.builder("chat.persistence.queue.size", queue, LinkedBlockingQueue::size)
+                .description("저장 대기 중인 채팅 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.persistence.lag", this, ChatMessageBatchWriter::oldestPendingMillis)
+                .description("가장 오래 대기 중인 채팅 메시지의 대기 시간(ms)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("chat.persistence.flush")
+                .description("insertMany 1회 수행 시간")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("chat.persistence.write.lag")
+                .description("메시지 수신부터 저장 완료까지 걸린 시간")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("chat.persistence.failed")
+                .description("저장에 실패한 채팅 메시지 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("chat.persistence.rejected")
+                .description("저장 대기열이 가득 차 거절된 채팅 메시지 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        writer.submit(this::runFlushLoop);
+    }
+
+    // 메시지를 저장 대기열에 추가, 반환된 future는 MongoDB 저장이 끝난 뒤 완료됨
+    public CompletableFuture<ChatMessage> enqueue(ChatMessage chatMessage) {
+        if (!running) {
+            return CompletableFuture.failedFuture(new IllegalStateException("채팅 메시지 저장소가 종료되었습니다."));
+        }
+        PendingMessage pending = new PendingMessage(chatMessage, System.nanoTime(), new CompletableFuture<>());
+        try {
+            if (!queue.offer(pending, enqueueTimeoutMs, TimeUnit.MILLISECONDS)) {
+                rejectedCounter.increment();
+                log.warn("Chat message queue is full, rejecting message for room {}", chatMessage.getRoomCode());
+                return CompletableFuture.failedFuture(new ChatOverloadedException());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+        return pending.future();
+    }
+
+    private void runFlushLoop() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingMessage first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                collectBatch(batch, first.enqueuedAt());
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("Unexpected error in chat message writer", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // batch-size가 차거나 첫 메시지 이후 flush-interval이 지날 때까지 메시지를 모음
+    private void collectBatch(List<PendingMessage> batch, long firstEnqueuedAt) throws InterruptedException {
+        long deadline = firstEnqueuedAt + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) return;
+            PendingMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) return;
+            batch.add(next);
+        }
+    }
+
+    // ordered insert는 첫 오류에서 멈추므로 그 앞까지 저장된 메시지만 완료하고, 나머지를 backoff 후 이어서 저장
+    // _id를 미리 부여하므로 이전 시도에서 이미 저장된 메시지는 중복 키 오류가 나며 저장 성공으로 처리
+    private void flush(List<PendingMessage> batch) throws InterruptedException {
+        for (PendingMessage pending : batch) {
+            if (pending.chatMessage().get_id() == null) {
+                pending.chatMessage().set_id(new ObjectId().toHexString());
+            }
+        }
+        List<PendingMessage> remaining = new ArrayList<>(batch);
+        int attempt = 0;
+        while (true) {
+            Exception error;
+            try {
+                flushTimer.record(() -> insert(remaining));
+                complete(remaining);
+                log.debug("Flushed {} chat messages", batch.size());
+                return;
+            } catch (BulkOperationException e) {
+                BulkWriteError writeError = e.getErrors().get(0);
+                boolean duplicate = writeError.getCode() == DUPLICATE_KEY;
+                List<PendingMessage> written = remaining.subList(0, writeError.getIndex() + (duplicate ? 1 : 0));
+                complete(written);
+                written.clear();
+                if (remaining.isEmpty()) return;
+                if (duplicate) continue; // 이미 저장된 메시지는 재시도 횟수에 포함하지 않고 다음 메시지부터 이어서 저장
+                error = e;
+            } catch (Exception e) {
+                error = e;
+            }
+
+            attempt++;
+            if (attempt >= maxRetries) {
+                log.error("Failed to persist {} chat messages after {} attempts", remaining.size(), attempt, error);
+                fail(remaining, error);
+                return;
+            }
+            log.warn("Retrying {} chat messages ({}/{}): {}", remaining.size(), attempt, maxRetries, error.getMessage());
+            try {
+                Thread.sleep(retryBackoffMs << (attempt - 1));
+            } catch (InterruptedException e) {
+                fail(remaining, e);
+                throw e;
+            }
+        }
+    }
+
+    private void insert(List<PendingMessage> pendings) {
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, ChatMessage.class);
+        bulkOps.insert(pendings.stream().map(PendingMessage::chatMessage).toList());
+        bulkOps.execute();
+    }
+
+    private void complete(List<PendingMessage> pendings) {
+        long now = System.nanoTime();
+        for (PendingMessage pending : pendings) {
+            lagTimer.record(Duration.ofNanos(now - pending.enqueuedAt()));
+            pending.future().complete(pending.chatMessage());
+        }
+    }
+
+    private void fail(List<PendingMessage> pendings, Exception error) {
+        failedCounter.increment(pendings.size());
+        pendings.forEach(pending -> pending.future().completeExceptionally(error));
+    }
+
+    private double oldestPendingMillis() {
+        PendingMessage oldest = queue.peek();
+        return oldest == null ? 0 : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldest.enqueuedAt());
+    }
+
+    // 종료 시 남은 메시지를 모두 저장한 뒤 종료
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writer.shutdown();
+        if (!writer.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Chat message writer did not finish in time, {} messages pending", queue.size());
+            writer.shutdownNow();
+        }
+    }
+
+    private record PendingMessage(ChatMessage chatMessage, long enqueuedAt, CompletableFuture<ChatMessage> future) {
+    }
+}
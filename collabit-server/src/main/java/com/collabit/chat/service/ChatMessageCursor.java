@@ -0,0 +1,56 @@
+package com.collabit.chat.service;
+
+import com.collabit.chat.domain.entity.ChatMessage;
+import com.collabit.global.common.ErrorCode;
+import com.collabit.global.error.exception.BusinessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 채팅 메시지 keyset 커서 - (timestamp, _id)를 "timestamp|_id" 형태로 URL-safe Base64 인코딩
+// 메시지 목록과 검색 결과가 같은 커서를 사용하므로 검색 결과에서 바로 해당 위치의 이전 메시지를 조회할 수 있음
+record ChatMessageCursor(LocalDateTime timestamp, String id) {
+
+    static final Sort ORDER = Sort.by(Sort.Direction.DESC, "timestamp", "_id");
+    // 내보내기용 (오래된 메시지부터)
+    static final Sort ASCENDING_ORDER = Sort.by(Sort.Direction.ASC, "timestamp", "_id");
+    private static final String DELIMITER = "|";
+
+    static String encode(ChatMessage chatMessage) {
+        String raw = chatMessage.getTimestamp() + DELIMITER + chatMessage.get_id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static ChatMessageCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiter = raw.indexOf(DELIMITER);
+            if (delimiter < 0) throw new IllegalArgumentException("cursor delimiter not found");
+            return new ChatMessageCursor(LocalDateTime.parse(raw.substring(0, delimiter)), raw.substring(delimiter + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.METHOD_ARGUMENT_NOT_VALID);
+        }
+    }
+
+    // 커서 위치보다 오래된 메시지 조건 추가
+    static Criteria olderThan(Criteria criteria, String cursor) {
+        if (cursor == null || cursor.isBlank()) return criteria;
+        ChatMessageCursor position = decode(cursor);
+        return criteria.orOperator(
+                Criteria.where("timestamp").lt(position.timestamp()),
+                Criteria.where("timestamp").is(position.timestamp()).and("_id").lt(position.id()));
+    }
+
+    // 커서 위치보다 최근 메시지 조건 추가
+    static Criteria newerThan(Criteria criteria, String cursor) {
+        if (cursor == null || cursor.isBlank()) return criteria;
+        ChatMessageCursor position = decode(cursor);
+        return criteria.orOperator(
+                Criteria.where("timestamp").gt(position.timestamp()),
+                Criteria.where("timestamp").is(position.timestamp()).and("_id").gt(position.id()));
+    }
+}
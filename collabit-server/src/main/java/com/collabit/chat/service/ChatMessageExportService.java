@@ -0,0 +1,76 @@
+package com.collabit.chat.service;
+
+import com.collabit.chat.domain.dto.ChatMessageExportDTO;
+import com.collabit.chat.domain.entity.ChatMessage;
+import com.collabit.chat.domain.entity.ChatRoom;
+import com.collabit.chat.exception.ChatRoomNotFoundException;
+import com.collabit.chat.exception.UserNotInChatRoomException;
+import com.collabit.chat.repository.ChatRoomRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatMessageExportService {
+
+    // MongoDB cursor가 한 번에 가져오는 문서 수, 응답 flush 단위
+    private static final int BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+
+    // 채팅방 전체 메시지를 오래된 순서로 NDJSON(한 줄에 메시지 하나) 스트리밍
+    // cursor가 있으면 해당 메시지 다음부터 이어서 내보냄
+    // MongoDB cursor에서 batch 단위로 읽어 바로 쓰므로 채팅방 크기와 관계없이 메모리 사용량이 일정하고,
+    // 클라이언트가 느리면 응답 쓰기가 block되어 MongoDB에서도 그만큼만 읽음
+    public StreamingResponseBody exportMessages(String userCode, int roomCode, String cursor) {
+        if (!chatRoomMembershipCache.isParticipant(roomCode, userCode)) {
+            log.debug("User {} is not in chat room", userCode);
+            throw new UserNotInChatRoomException();
+        }
+        ChatRoom chatRoom = chatRoomRepository.findById(roomCode).orElseThrow(ChatRoomNotFoundException::new);
+        Map<String, String> nicknames = chatRoom.getParticipantNicknames();
+        Query query = Query.query(ChatMessageCursor.newerThan(Criteria.where("roomCode").is(roomCode), cursor))
+                .with(ChatMessageCursor.ASCENDING_ORDER)
+                .cursorBatchSize(BATCH_SIZE);
+        query.fields().exclude("searchGrams");
+
+        return outputStream -> {
+            int exported = 0;
+            try (Stream<ChatMessage> messages = mongoTemplate.stream(query, ChatMessage.class);
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                // 기본 root value 구분자(공백) 대신 줄바꿈만 쓰도록 해 각 줄이 JSON 객체 하나로만 구성되게 함
+                generator.setRootValueSeparator(null);
+                Iterator<ChatMessage> iterator = messages.iterator();
+                while (iterator.hasNext()) {
+                    ChatMessage message = iterator.next();
+                    String nickname = nicknames.get(message.getUserCode());
+                    generator.writeObject(ChatMessageExportDTO.builder()
+                            .nickname(nickname != null ? nickname : message.getNickname())
+                            .message(message.getMessage())
+                            .timestamp(message.getTimestamp())
+                            .cursor(ChatMessageCursor.encode(message))
+                            .build());
+                    generator.writeRaw('\n');
+                    if (++exported % BATCH_SIZE == 0) generator.flush();
+                }
+            }
+            log.debug("Exported {} chat messages of room {}", exported, roomCode);
+        };
+    }
+}
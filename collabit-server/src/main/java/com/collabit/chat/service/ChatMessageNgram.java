@@ -0,0 +1,45 @@
+package com.collabit.chat.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+// 채팅 검색용 2-gram 생성
+// MongoDB text index는 한국어 형태소 분석을 지원하지 않으므로 공백 단위 토큰을 2글자씩 잘라 저장하고 검색어도 같은 방식으로 나눔
+// (예: "회의 일정" -> [회의, 일정], "프로젝트" -> [프로, 로젝, 젝트])
+public final class ChatMessageNgram {
+
+    public static final int MIN_KEYWORD_LENGTH = 2;
+
+    private ChatMessageNgram() {
+    }
+
+    // 메시지 저장용, 한 글자 토큰은 그대로 저장
+    public static List<String> of(String text) {
+        return grams(text, true);
+    }
+
+    // 검색어용, 한 글자 토큰은 메시지의 더 긴 토큰 일부일 수 있으므로 제외 (원문 비교로 확인)
+    public static List<String> ofKeyword(String keyword) {
+        return grams(keyword, false);
+    }
+
+    private static List<String> grams(String text, boolean includeSingle) {
+        if (text == null || text.isBlank()) return List.of();
+        Set<String> grams = new LinkedHashSet<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("\\s+")) {
+            int[] codePoints = token.codePoints().toArray();
+            if (codePoints.length == 0) continue;
+            if (codePoints.length == 1) {
+                if (includeSingle) grams.add(token);
+                continue;
+            }
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                grams.add(new String(codePoints, i, 2));
+            }
+        }
+        return new ArrayList<>(grams);
+    }
+}
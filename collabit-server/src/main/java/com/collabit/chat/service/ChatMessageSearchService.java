@@ -0,0 +1,85 @@
+package com.collabit.chat.service;
+
+import com.collabit.chat.domain.dto.ChatMessageSearchResponseDTO;
+import com.collabit.chat.domain.entity.ChatMessage;
+import com.collabit.chat.domain.entity.ChatRoom;
+import com.collabit.chat.exception.ChatRoomNotFoundException;
+import com.collabit.chat.exception.UserNotInChatRoomException;
+import com.collabit.chat.repository.ChatRoomRepository;
+import com.collabit.global.common.CursorResponseDTO;
+import com.collabit.global.common.ErrorCode;
+import com.collabit.global.error.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatMessageSearchService {
+
+    private static final int MAX_KEYWORD_LENGTH = 50;
+    private static final int MAX_SEARCH_PAGE_SIZE = 50;
+
+    private final MongoTemplate mongoTemplate;
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+
+    // 채팅방 메시지 검색 (최신순)
+    // 검색 인덱스로 2-gram을 모두 포함한 메시지만 최신순으로 읽으면서 원문 포함 여부를 확인
+    public CursorResponseDTO<ChatMessageSearchResponseDTO> searchMessages(String userCode, int roomCode, String keyword,
+                                                                          String cursor, int size) {
+        String trimmed = keyword == null ? "" : keyword.trim();
+        if (trimmed.length() < ChatMessageNgram.MIN_KEYWORD_LENGTH || trimmed.length() > MAX_KEYWORD_LENGTH
+                || size <= 0 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.METHOD_ARGUMENT_NOT_VALID);
+        }
+        if (!chatRoomMembershipCache.isParticipant(roomCode, userCode)) {
+            log.debug("User {} is not in chat room", userCode);
+            throw new UserNotInChatRoomException();
+        }
+        ChatRoom chatRoom = chatRoomRepository.findById(roomCode).orElseThrow(ChatRoomNotFoundException::new);
+        Map<String, String> nicknames = chatRoom.getParticipantNicknames();
+
+        Criteria criteria = Criteria.where("roomCode").is(roomCode);
+        List<String> grams = ChatMessageNgram.ofKeyword(trimmed);
+        if (!grams.isEmpty()) criteria = criteria.and("searchGrams").all(grams);
+        criteria = criteria.and("message").regex(Pattern.quote(trimmed), "i");
+        Query query = Query.query(ChatMessageCursor.olderThan(criteria, cursor))
+                .with(ChatMessageCursor.ORDER)
+                .limit(size + 1); // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+        // 흔한 2-gram이면 planner가 room_code_timestamp_id_idx로 채팅방 전체를 정규식으로 훑을 수 있으므로 검색 인덱스 지정
+        if (!grams.isEmpty()) query.withHint(ChatMessage.SEARCH_INDEX);
+        query.fields().exclude("searchGrams");
+        List<ChatMessage> messages = mongoTemplate.find(query, ChatMessage.class);
+
+        boolean hasNext = messages.size() > size;
+        if (hasNext) messages = messages.subList(0, size);
+
+        List<ChatMessageSearchResponseDTO> results = messages.stream()
+                .map(message -> {
+                    String nickname = nicknames.get(message.getUserCode());
+                    return ChatMessageSearchResponseDTO.builder()
+                            .nickname(nickname != null ? nickname : message.getNickname())
+                            .message(message.getMessage())
+                            .timestamp(message.getTimestamp())
+                            .cursor(ChatMessageCursor.encode(message))
+                            .build();
+                })
+                .toList();
+        log.debug("Chat search in room {} for '{}' returned {} messages", roomCode, trimmed, results.size());
+        return CursorResponseDTO.<ChatMessageSearchResponseDTO>builder()
+                .content(results)
+                .size(size)
+                .nextCursor(hasNext ? results.get(results.size() - 1).getCursor() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+}
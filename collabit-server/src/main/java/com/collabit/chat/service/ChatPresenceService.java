@@ -0,0 +1,129 @@
+package com.collabit.chat.service;
+
+import com.collabit.chat.websocket.WebSocketEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 사용자가 현재 보고 있는 채팅방 추적 (/app/chat.connect, /app/chat.disconnect 기준)
+// 클라이언트는 목록의 모든 채팅방 topic을 구독하므로 구독 여부가 아닌 채팅방 입장/퇴장으로 판단
+// Redis Hash chat_presence:{userCode} (field: sessionId, value: roomCode:만료시각)
+// 각 서버는 자신에게 연결된 세션만 주기적으로 갱신하므로, 서버가 죽으면 해당 세션은 만료 시각 이후 무시됨
+@Slf4j
+@Service
+public class ChatPresenceService {
+
+    private static final String PRESENCE_KEY_PREFIX = "chat_presence:";
+    private static final String VALUE_DELIMITER = ":";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    // sessionId -> 이 서버에서 해당 세션이 보고 있는 채팅방
+    private final Map<String, ViewingRoom> localSessions = new HashMap<>();
+
+    public ChatPresenceService(StringRedisTemplate redisTemplate,
+                               @Value("${chat.presence.ttl-ms:60000}") long ttlMs) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofMillis(ttlMs);
+    }
+
+    // 채팅방 입장 (세션당 하나의 채팅방만 보고 있는 것으로 간주)
+    public void enter(String userCode, String sessionId, int roomCode) {
+        synchronized (localSessions) {
+            localSessions.put(sessionId, new ViewingRoom(userCode, roomCode));
+        }
+        try {
+            String key = presenceKey(userCode);
+            redisTemplate.opsForHash().put(key, sessionId, value(roomCode));
+            redisTemplate.expire(key, ttl);
+        } catch (Exception e) {
+            log.warn("Failed to record presence: user={}, room={}", userCode, roomCode, e);
+        }
+    }
+
+    // 채팅방 퇴장 (그 사이 다른 채팅방에 입장했다면 무시)
+    public void leave(String userCode, String sessionId, int roomCode) {
+        synchronized (localSessions) {
+            ViewingRoom viewing = localSessions.get(sessionId);
+            if (viewing == null || viewing.roomCode() != roomCode) return;
+            localSessions.remove(sessionId);
+        }
+        clear(userCode, sessionId);
+    }
+
+    @EventListener
+    public void onDisconnect(WebSocketEvent.UserDisconnectEvent event) {
+        ViewingRoom viewing;
+        synchronized (localSessions) {
+            viewing = localSessions.remove(event.getSessionId());
+        }
+        if (viewing != null) {
+            clear(viewing.userCode(), event.getSessionId());
+        }
+    }
+
+    // 사용자가 해당 채팅방을 보고 있는지 확인 (만료된 세션은 무시)
+    public boolean isViewing(String userCode, int roomCode) {
+        try {
+            List<Object> values = redisTemplate.opsForHash().values(presenceKey(userCode));
+            long now = System.currentTimeMillis();
+            String room = String.valueOf(roomCode);
+            for (Object value : values) {
+                String[] parts = value.toString().split(VALUE_DELIMITER);
+                if (parts.length == 2 && parts[0].equals(room) && Long.parseLong(parts[1]) > now) return true;
+            }
+        } catch (Exception e) {
+            // 확인 실패 시 보고 있지 않은 것으로 간주 (안 읽은 메시지 처리가 누락되지 않도록)
+            log.warn("Failed to check presence: user={}, room={}", userCode, roomCode, e);
+        }
+        return false;
+    }
+
+    // 이 서버에 연결된 세션의 만료 시각 갱신
+    @Scheduled(fixedDelayString = "${chat.presence.refresh-interval-ms:20000}")
+    public void refreshLocalPresence() {
+        Map<String, Map<String, String>> entriesByUser = new HashMap<>();
+        synchronized (localSessions) {
+            localSessions.forEach((sessionId, viewing) ->
+                    entriesByUser.computeIfAbsent(viewing.userCode(), code -> new HashMap<>())
+                            .put(sessionId, value(viewing.roomCode())));
+        }
+        entriesByUser.forEach((userCode, entries) -> {
+            try {
+                String key = presenceKey(userCode);
+                redisTemplate.opsForHash().putAll(key, entries);
+                redisTemplate.expire(key, ttl);
+            } catch (Exception e) {
+                log.warn("Failed to refresh presence: user={}", userCode, e);
+            }
+        });
+    }
+
+    private void clear(String userCode, String sessionId) {
+        try {
+            redisTemplate.opsForHash().delete(presenceKey(userCode), sessionId);
+        } catch (Exception e) {
+            log.warn("Failed to clear presence: user={}", userCode, e);
+        }
+    }
+
+    private String presenceKey(String userCode) {
+        return PRESENCE_KEY_PREFIX + userCode;
+    }
+
+    private String value(int roomCode) {
+        return roomCode + VALUE_DELIMITER + (System.currentTimeMillis() + ttl.toMillis());
+    }
+
+    private record ViewingRoom(String userCode, int roomCode) {
+    }
+}
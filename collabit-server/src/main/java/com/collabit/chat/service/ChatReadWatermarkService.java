@@ -0,0 +1,76 @@
+package com.collabit.chat.service;
+
+import com.collabit.chat.domain.entity.ChatMessage;
+import com.collabit.chat.repository.ChatRoomRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 채팅방-사용자별 마지막으로 읽은 시각(watermark) 관리
+// 읽음 처리는 메모리에서 가장 최신 값으로 합쳐 두었다가 주기적으로 한 번씩 DB에 반영
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatReadWatermarkService {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final MongoTemplate mongoTemplate;
+
+    // 아직 DB에 반영되지 않은 읽음 위치
+    private final Map<Watermark, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    public void markRead(int roomCode, String userCode, LocalDateTime readAt) {
+        pending.merge(new Watermark(roomCode, userCode), readAt, (previous, current) -> current.isAfter(previous) ? current : previous);
+    }
+
+    // DB에 저장된 값과 반영 대기 중인 값 중 최신 읽음 위치
+    public LocalDateTime getLastReadAt(int roomCode, String userCode, LocalDateTime persisted) {
+        LocalDateTime buffered = pending.get(new Watermark(roomCode, userCode));
+        if (buffered == null) return persisted;
+        if (persisted == null) return buffered;
+        return buffered.isAfter(persisted) ? buffered : persisted;
+    }
+
+    // 읽음 위치 이후 상대방이 보낸 메시지 수 (room_code_timestamp_id_idx 범위 조회)
+    public int countUnread(int roomCode, String userCode, LocalDateTime lastReadAt) {
+        Criteria criteria = Criteria.where("roomCode").is(roomCode).and("userCode").ne(userCode);
+        if (lastReadAt != null) {
+            criteria = criteria.and("timestamp").gt(lastReadAt);
+        }
+        return (int) mongoTemplate.count(Query.query(criteria), ChatMessage.class);
+    }
+
+    @Scheduled(fixedDelayString = "${chat.read-watermark.flush-interval-ms:1000}")
+    public void flush() {
+        for (Watermark watermark : List.copyOf(pending.keySet())) {
+            LocalDateTime readAt = pending.remove(watermark);
+            if (readAt == null) continue;
+            try {
+                // 두 쿼리 중 사용자가 속한 쪽만 갱신됨
+                chatRoomRepository.advanceUser1LastReadAt(watermark.roomCode(), watermark.userCode(), readAt);
+                chatRoomRepository.advanceUser2LastReadAt(watermark.roomCode(), watermark.userCode(), readAt);
+            } catch (Exception e) {
+                log.warn("Failed to persist read watermark: room={}, user={}", watermark.roomCode(), watermark.userCode(), e);
+                markRead(watermark.roomCode(), watermark.userCode(), readAt); // 다음 주기에 재시도
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private record Watermark(int roomCode, String userCode) {
+    }
+}
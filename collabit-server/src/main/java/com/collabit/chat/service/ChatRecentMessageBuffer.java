@@ -0,0 +1,209 @@
+package com.collabit.chat.service;
+
+import com.collabit.chat.domain.entity.ChatMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// 채팅방별 최근 메시지 ring buffer
+// 채팅방 첫 페이지 조회를 MongoDB 대신 메모리에서 처리, 전체 용량(max-bytes)을 넘으면 가장 오래 사용하지 않은 채팅방부터 제거
+// 다른 서버에서 저장된 메시지는 들어오지 않으므로 ChatRoom.lastMessageAt과 비교해 빠진 메시지가 있으면 버퍼를 버리고 다시 적재
+@Slf4j
+@Service
+public class ChatRecentMessageBuffer {
+
+    // 메시지 한 건의 고정 크기 추정치 (객체 헤더, 필드, LocalDateTime 등)
+    private static final int MESSAGE_OVERHEAD_BYTES = 160;
+
+    private final int capacity;
+    private final long maxBytes;
+    private final Map<Integer, RoomBuffer> rooms = new LinkedHashMap<>(16, 0.75f, true);
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private long totalBytes;
+
+    public ChatRecentMessageBuffer(MeterRegistry meterRegistry,
+                                   @Value("${chat.recent-buffer.capacity:100}") int capacity,
+                                   @Value("${chat.recent-buffer.max-bytes:67108864}") long maxBytes) {
+        this.capacity = capacity;
+        this.maxBytes = maxBytes;
+        Gauge.builder("chat.recent-buffer.rooms", this, buffer -> buffer.roomCount())
+                .description("최근 메시지를 메모리에 보관 중인 채팅방 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.recent-buffer.bytes", this, buffer -> buffer.usedBytes())
+                .description("최근 메시지 버퍼 사용량 추정치")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.hitCounter = Counter.builder("chat.recent-buffer.requests").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("chat.recent-buffer.requests").tag("result", "miss").register(meterRegistry);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    // 최신순 메시지 limit건 반환, 버퍼가 없거나 lastMessageAt 이후 메시지가 빠져 있거나 건수가 부족하면 empty
+    public Optional<List<ChatMessage>> getNewest(int roomCode, int limit, LocalDateTime lastMessageAt) {
+        synchronized (rooms) {
+            RoomBuffer buffer = rooms.get(roomCode);
+            if (buffer == null || buffer.isStale(lastMessageAt) || (!buffer.complete && buffer.messages.size() < limit)) {
+                missCounter.increment();
+                return Optional.empty();
+            }
+            List<ChatMessage> newest = new ArrayList<>(Math.min(limit, buffer.messages.size()));
+            Iterator<ChatMessage> iterator = buffer.messages.descendingIterator();
+            while (iterator.hasNext() && newest.size() < limit) {
+                newest.add(iterator.next());
+            }
+            hitCounter.increment();
+            return Optional.of(newest);
+        }
+    }
+
+    // MongoDB에서 읽은 최신 메시지(최신순)로 버퍼를 채움, complete는 채팅방의 전체 메시지를 읽었는지 여부
+    public void load(int roomCode, List<ChatMessage> newestFirst, boolean complete) {
+        if (capacity <= 0) return;
+        RoomBuffer buffer = new RoomBuffer(complete && newestFirst.size() <= capacity);
+        for (int i = Math.min(newestFirst.size(), capacity) - 1; i >= 0; i--) {
+            buffer.add(compact(newestFirst.get(i)));
+        }
+        synchronized (rooms) {
+            replace(roomCode, buffer);
+        }
+    }
+
+    // 저장이 끝난 메시지 추가, previousMessageAt은 이 메시지 직전 메시지의 시각 (새 채팅방이면 null)
+    // 직전 메시지가 버퍼의 마지막 메시지가 아니면 중간에 다른 서버의 메시지가 있었던 것이므로 버퍼를 버림
+    public void append(ChatMessage chatMessage, LocalDateTime previousMessageAt) {
+        if (capacity <= 0) return;
+        int roomCode = chatMessage.getRoomCode();
+        synchronized (rooms) {
+            RoomBuffer buffer = rooms.get(roomCode);
+            if (buffer == null) {
+                // 첫 메시지면 채팅방 전체 메시지를 알고 있으므로 새로 등록
+                if (previousMessageAt != null) return;
+                buffer = new RoomBuffer(true);
+                rooms.put(roomCode, buffer);
+            } else if (!buffer.isContinuedBy(previousMessageAt)) {
+                remove(roomCode);
+                return;
+            }
+            long before = buffer.bytes;
+            buffer.add(compact(chatMessage));
+            while (buffer.messages.size() > capacity) {
+                buffer.removeOldest();
+            }
+            totalBytes += buffer.bytes - before;
+            evictIfNeeded();
+        }
+    }
+
+    public void invalidate(int roomCode) {
+        synchronized (rooms) {
+            remove(roomCode);
+        }
+    }
+
+    private void replace(int roomCode, RoomBuffer buffer) {
+        remove(roomCode);
+        rooms.put(roomCode, buffer);
+        totalBytes += buffer.bytes;
+        evictIfNeeded();
+    }
+
+    private void remove(int roomCode) {
+        RoomBuffer removed = rooms.remove(roomCode);
+        if (removed != null) totalBytes -= removed.bytes;
+    }
+
+    // 전체 용량을 넘으면 가장 오래 사용하지 않은 채팅방부터 제거
+    private void evictIfNeeded() {
+        Iterator<RoomBuffer> iterator = rooms.values().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            totalBytes -= iterator.next().bytes;
+            iterator.remove();
+        }
+    }
+
+    private int roomCount() {
+        synchronized (rooms) {
+            return rooms.size();
+        }
+    }
+
+    private long usedBytes() {
+        synchronized (rooms) {
+            return totalBytes;
+        }
+    }
+
+    // 응답에 필요한 필드만 보관 (searchGrams 제외)
+    private static ChatMessage compact(ChatMessage chatMessage) {
+        return ChatMessage.builder()
+                ._id(chatMessage.get_id())
+                .roomCode(chatMessage.getRoomCode())
+                .userCode(chatMessage.getUserCode())
+                .nickname(chatMessage.getNickname())
+                .message(chatMessage.getMessage())
+                .timestamp(chatMessage.getTimestamp())
+                .build();
+    }
+
+    private static long sizeOf(ChatMessage chatMessage) {
+        return MESSAGE_OVERHEAD_BYTES
+                + 2L * (length(chatMessage.getMessage()) + length(chatMessage.getNickname())
+                + length(chatMessage.getUserCode()) + length(chatMessage.get_id()));
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    // 오래된 메시지 -> 최신 메시지 순서로 보관
+    private static final class RoomBuffer {
+        private final ArrayDeque<ChatMessage> messages = new ArrayDeque<>();
+        private boolean complete; // 채팅방의 모든 메시지가 버퍼에 있음
+        private long bytes;
+
+        private RoomBuffer(boolean complete) {
+            this.complete = complete;
+        }
+
+        private void add(ChatMessage chatMessage) {
+            messages.addLast(chatMessage);
+            bytes += sizeOf(chatMessage);
+        }
+
+        private void removeOldest() {
+            bytes -= sizeOf(messages.removeFirst());
+            complete = false;
+        }
+
+        private LocalDateTime newestTimestamp() {
+            return messages.isEmpty() ? null : messages.peekLast().getTimestamp();
+        }
+
+        private boolean isContinuedBy(LocalDateTime previousMessageAt) {
+            LocalDateTime newest = newestTimestamp();
+            return newest == null ? previousMessageAt == null : newest.equals(previousMessageAt);
+        }
+
+        private boolean isStale(LocalDateTime lastMessageAt) {
+            if (lastMessageAt == null) return false;
+            LocalDateTime newest = newestTimestamp();
+            return newest == null || lastMessageAt.isAfter(newest);
+        }
+    }
+}
@@ -1,17 +1,33 @@
 package com.collabit.chat.service;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 @Slf4j
 public class ChatRedisService {
 
+    // 사용자별 안 읽은 메시지 수 (Hash - roomCode : count)
+    private static final String UNREAD_KEY_PREFIX = "chat_unread:";
+    // 이전 방식의 채팅방별 안 읽은 메시지 수 (Hash - userCode : count)
+    private static final String LEGACY_ROOM_KEY_PREFIX = "chat_message:";
+    // 채팅방별 마지막 메시지 시각 (String - 서버 간 공유, 최근 메시지 버퍼의 연속성 확인용)
+    private static final String LAST_MESSAGE_AT_KEY_PREFIX = "chat_last_message_at:";
+
     private final RedisTemplate<String, Object> redisTemplate;
     private final ChatSseEmitterService chatSseEmitterService;
 
@@ -26,30 +42,40 @@ public class ChatRedisService {
 
     // 읽지 않은 메시지 수 반환
     public int getUnreadMessagesCount(int roomCode, String userCode) {
-        String keyPattern = "chat_message:" + roomCode;
-        Object unreadCount = redisTemplate.opsForHash().get(keyPattern, userCode);
+        Object unreadCount = redisTemplate.opsForHash().get(unreadKey(userCode), roomCode);
         return unreadCount != null ? Integer.parseInt(unreadCount.toString()) : 0;
     }
 
+    // 여러 채팅방의 읽지 않은 메시지 수를 한 번에 반환 (HMGET), 카운터가 없는 채팅방은 결과에서 제외
+    public Map<Integer, Integer> getUnreadMessagesCounts(String userCode, List<Integer> roomCodes) {
+        Map<Integer, Integer> unreadCounts = new HashMap<>();
+        if (roomCodes.isEmpty()) return unreadCounts;
+        List<Object> counts = redisTemplate.opsForHash().multiGet(unreadKey(userCode), new ArrayList<>(roomCodes));
+        for (int i = 0; i < roomCodes.size(); i++) {
+            Object count = counts.get(i);
+            if (count != null) unreadCounts.put(roomCodes.get(i), Integer.parseInt(count.toString()));
+        }
+        return unreadCounts;
+    }
+
     // 모든 읽지 않은 메시지가 있는 chat_room code 반환 (사용자 기준)
     public List<Integer> getUnreadChatRoomForUser(String userCode) {
-        String keyPattern = "chat_message:*";
-        return redisTemplate.keys(keyPattern).stream()
-                .filter(key -> redisTemplate.opsForHash().hasKey(key, userCode))
-                .map(key -> Integer.parseInt(key.split(":")[1]))
+        return redisTemplate.opsForHash().keys(unreadKey(userCode)).stream()
+                .map(roomCode -> Integer.parseInt(roomCode.toString()))
                 .collect(Collectors.toList());
     }
 
     // 메시지 상태 업데이트
     public void updateRoomMessageStatus(int roomCode, String userCode, boolean isRead) {
-        String key =  "chat_message:" + roomCode;
+        String key = unreadKey(userCode);
         if (isRead) {
-            redisTemplate.opsForHash().delete(key, userCode);
+            // 이미 읽은 상태면 목록 조회와 SSE 전송 생략
+            if (redisTemplate.opsForHash().delete(key, roomCode) == 0) return;
             List<Integer> unreadChatRooms = getUnreadChatRoomForUser(userCode);
             chatSseEmitterService.sendUnreadChatRooms(userCode, unreadChatRooms); // 삭제 후 변경된 상태를 SSE로 전송
         }
-        else redisTemplate.opsForHash().increment(key, userCode, 1);
-        log.debug("Updated message status for sender {} and receiver {} in room {}: read={}",
+        else redisTemplate.opsForHash().increment(key, roomCode, 1);
+        log.debug("Updated message status for user {} in room {}: read={}",
                 userCode, roomCode, isRead);
     }
 
@@ -59,4 +85,41 @@ public class ChatRedisService {
         chatSseEmitterService.sendUnreadChatRooms(userCode, unreadChatRooms);
     }
 
+    // 채팅방의 마지막 메시지 시각을 바꾸고 이전 값을 반환 (GETSET), 값이 없으면(첫 배포, Redis 초기화) empty
+    public Optional<LocalDateTime> getAndSetLastMessageAt(int roomCode, LocalDateTime timestamp) {
+        Object previous = redisTemplate.opsForValue().getAndSet(LAST_MESSAGE_AT_KEY_PREFIX + roomCode, timestamp.toString());
+        return Optional.ofNullable(previous).map(value -> LocalDateTime.parse(value.toString()));
+    }
+
+    // 이전 방식(chat_message:{roomCode})으로 남아있는 안 읽은 메시지 수를 사용자별 Hash로 옮김
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyRoomCounters() {
+        // key도 JSON 직렬화되어 저장되므로 따옴표를 포함한 패턴으로 SCAN
+        ScanOptions options = ScanOptions.scanOptions()
+                .match("\"" + LEGACY_ROOM_KEY_PREFIX + "*\"")
+                .count(500)
+                .build();
+        int migrated = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String roomKey = cursor.next();
+                int roomCode = Integer.parseInt(roomKey.substring(LEGACY_ROOM_KEY_PREFIX.length()));
+                Map<Object, Object> counters = redisTemplate.opsForHash().entries(roomKey);
+                counters.forEach((userCode, count) -> redisTemplate.opsForHash()
+                        .increment(unreadKey(userCode.toString()), roomCode, Long.parseLong(count.toString())));
+                redisTemplate.delete(roomKey);
+                migrated++;
+            }
+        } catch (Exception e) {
+            log.error("Failed to migrate legacy unread counters", e);
+        }
+        if (migrated > 0) {
+            log.info("Migrated legacy unread counters of {} chat rooms", migrated);
+        }
+    }
+
+    private String unreadKey(String userCode) {
+        return UNREAD_KEY_PREFIX + userCode;
+    }
+
 }
@@ -0,0 +1,76 @@
+package com.collabit.chat.service;
+
+import com.collabit.chat.domain.dto.ChatRoomActivity;
+import com.collabit.chat.domain.entity.ChatRoom;
+import com.collabit.chat.repository.ChatRoomRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 채팅방 마지막 메시지(목록 정렬, 미리보기) 갱신
+// 메시지마다 ChatRoom row를 갱신하지 않고 메모리에서 채팅방별 최신 값으로 합쳐 두었다가 주기적으로 한 번씩 DB에 반영
+// 조회 시에는 반영 대기 중인 값을 DB 값과 합쳐서 사용
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatRoomActivityService {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+
+    // 아직 DB에 반영되지 않은 채팅방별 마지막 메시지
+    private final Map<Integer, ChatRoomActivity> pending = new ConcurrentHashMap<>();
+
+    public void record(int roomCode, String message, LocalDateTime timestamp) {
+        pending.merge(roomCode, new ChatRoomActivity(ChatRoom.previewOf(message), timestamp), ChatRoomActivity::newer);
+    }
+
+    // DB에 저장된 값과 반영 대기 중인 값 중 최신 마지막 메시지 정보
+    public ChatRoomActivity getActivity(ChatRoom chatRoom) {
+        ChatRoomActivity persisted = new ChatRoomActivity(chatRoom.getLastMessage(), chatRoom.getLastMessageAt());
+        ChatRoomActivity buffered = pending.get(chatRoom.getCode());
+        if (buffered == null) return persisted;
+        if (persisted.lastMessageAt() == null) return buffered;
+        return persisted.newer(buffered);
+    }
+
+    public LocalDateTime getLastMessageAt(ChatRoom chatRoom) {
+        return getActivity(chatRoom).lastMessageAt();
+    }
+
+    // 사용자가 참여한 채팅방 중 반영 대기 중인 채팅방 (반영 주기 동안 활동이 있었던 채팅방만 있으므로 크기가 작음)
+    public Map<Integer, ChatRoomActivity> getPendingActivities(String userCode) {
+        Map<Integer, ChatRoomActivity> activities = new HashMap<>();
+        pending.forEach((roomCode, activity) -> {
+            if (chatRoomMembershipCache.isParticipant(roomCode, userCode)) activities.put(roomCode, activity);
+        });
+        return activities;
+    }
+
+    @Scheduled(fixedDelayString = "${chat.room-activity.flush-interval-ms:1000}")
+    public void flush() {
+        for (Integer roomCode : List.copyOf(pending.keySet())) {
+            ChatRoomActivity activity = pending.remove(roomCode);
+            if (activity == null) continue;
+            try {
+                chatRoomRepository.updateLastMessage(roomCode, activity.lastMessage(), activity.lastMessageAt(), LocalDateTime.now());
+            } catch (Exception e) {
+                log.warn("Failed to persist chat room activity: room={}", roomCode, e);
+                pending.merge(roomCode, activity, ChatRoomActivity::newer); // 다음 주기에 재시도
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
@@ -7,124 +7,192 @@ import com.collabit.chat.domain.entity.ChatMessage;
 import com.collabit.chat.domain.entity.ChatRoom;
 import com.collabit.chat.exception.ChatRoomNotFoundException;
 import com.collabit.chat.exception.UserNotInChatRoomException;
-import com.collabit.chat.repository.ChatMessageRepository;
 import com.collabit.chat.repository.ChatRoomRepository;
-import com.collabit.global.common.PageResponseDTO;
-import com.collabit.user.domain.entity.User;
-import com.collabit.user.exception.UserNotFoundException;
-import com.collabit.user.repository.UserRepository;
+import com.collabit.global.common.CursorResponseDTO;
+import com.collabit.global.common.ErrorCode;
+import com.collabit.global.error.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
+
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ChatRoomDetailService {
 
-    private final ChatMessageRepository chatMessageRepository;
+    private static final int MAX_MESSAGE_PAGE_SIZE = 100;
+
+    private final MongoTemplate mongoTemplate;
     private final ChatRoomRepository chatRoomRepository;
     private final ChatRedisService chatRedisService;
-    private final UserRepository userRepository;
+    private final ChatMessageBatchWriter chatMessageBatchWriter;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+    private final ChatPresenceService chatPresenceService;
+    private final ChatReadWatermarkService chatReadWatermarkService;
+    private final ChatRecentMessageBuffer chatRecentMessageBuffer;
+    private final ChatRoomActivityService chatRoomActivityService;
 
     // 채팅방 디테일 조회
     public ChatRoomDetailResponseDTO getChatRoomDetail(String userCode, int roomCode) {
-        markMessagesAsRead(roomCode, userCode);
         if (!isUserInChatRoom(userCode, roomCode)) {
             log.debug("User {} is not in chat room", userCode);
             throw new UserNotInChatRoomException();
         }
+        markMessagesAsRead(roomCode, userCode);
         ChatRoom chatRoom = chatRoomRepository.findById(roomCode).orElseThrow(ChatRoomNotFoundException::new);
-        User otherUser = getOtherUser(chatRoom, userCode);
+        boolean isUser1 = chatRoom.getUser1().getCode().equals(userCode);
+        String otherUserCode = isUser1 ? chatRoom.getUser2().getCode() : chatRoom.getUser1().getCode();
         ChatRoomDetailResponseDTO chatRoomDetail = ChatRoomDetailResponseDTO.builder()
-                .profileImage(otherUser.getProfileImage())
-                .nickname(otherUser.getNickname())
+                .profileImage(isUser1 ? chatRoom.getUser2ProfileImage() : chatRoom.getUser1ProfileImage())
+                .nickname(isUser1 ? chatRoom.getUser2Nickname() : chatRoom.getUser1Nickname())
+                // 상대방이 이 시각 이전 메시지를 모두 읽음 (읽음 확인 표시용)
+                .otherLastReadAt(chatReadWatermarkService.getLastReadAt(roomCode, otherUserCode, chatRoom.getLastReadAt(otherUserCode)))
                 .build();
         log.debug("ChatRoomDetail {}", chatRoomDetail);
         return chatRoomDetail;
     }
 
-    //채팅방 메시지 조회
-    public PageResponseDTO<ChatMessageResponseDTO> getChatRoomMessages(String userCode, int roomCode, int pageNumber) {
+    //채팅방 메시지 조회 (최신순, cursor가 없으면 가장 최근 메시지부터)
+    public CursorResponseDTO<ChatMessageResponseDTO> getChatRoomMessages(String userCode, int roomCode, String cursor, int size) {
+        if (size <= 0 || size > MAX_MESSAGE_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.METHOD_ARGUMENT_NOT_VALID);
+        }
         // 채팅방 참여 여부 확인
         if (!isUserInChatRoom(userCode, roomCode)) {
             log.debug("User {} is not in chat room", userCode);
             throw new UserNotInChatRoomException();
         }
-        Pageable pageable = PageRequest.of(pageNumber, 50);
-        Page<ChatMessage> chatMessagePage = chatMessageRepository.findByRoomCodeOrderByTimestampDesc(roomCode, pageable);
-        PageResponseDTO<ChatMessageResponseDTO> chatMessages = PageResponseDTO.<ChatMessageResponseDTO>builder()
-                .content(chatMessagePage.getContent().stream()
-                        .map(this::convertToResponseDTO)
+        ChatRoom chatRoom = chatRoomRepository.findById(roomCode).orElseThrow(ChatRoomNotFoundException::new);
+        // 발신자 닉네임은 페이지당 한 번, 채팅방 참여자 정보로 결정 (메시지별 user 조회 없음)
+        Map<String, String> nicknames = chatRoom.getParticipantNicknames();
+
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+        List<ChatMessage> messages = cursor == null || cursor.isBlank()
+                ? findNewestMessages(chatRoom, size + 1)
+                : findMessages(roomCode, cursor, size + 1);
+
+        boolean hasNext = messages.size() > size;
+        if (hasNext) messages = messages.subList(0, size);
+        String nextCursor = hasNext ? ChatMessageCursor.encode(messages.get(messages.size() - 1)) : null;
+
+        CursorResponseDTO<ChatMessageResponseDTO> chatMessages = CursorResponseDTO.<ChatMessageResponseDTO>builder()
+                .content(messages.stream()
+                        .map(message -> convertToResponseDTO(message, nicknames))
                         .toList())
-                .pageNumber(pageNumber)
-                .pageSize(50)
-                .totalElements((int) chatMessagePage.getTotalElements())
-                .totalPages(chatMessagePage.getTotalPages())
-                .last(chatMessagePage.isLast())
-                .hasNext(chatMessagePage.hasNext())
+                .size(size)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
                 .build();
         log.debug("ChatMessages {}", chatMessages);
         return chatMessages;
     }
 
+    // 첫 페이지는 최근 메시지 버퍼에서 조회, 없으면 버퍼 용량만큼 MongoDB에서 읽어 버퍼를 채움
+    private List<ChatMessage> findNewestMessages(ChatRoom chatRoom, int limit) {
+        int roomCode = chatRoom.getCode();
+        Optional<List<ChatMessage>> buffered = chatRecentMessageBuffer.getNewest(roomCode, limit,
+                chatRoomActivityService.getLastMessageAt(chatRoom));
+        if (buffered.isPresent()) return buffered.get();
+
+        int loadSize = Math.max(limit, chatRecentMessageBuffer.getCapacity());
+        List<ChatMessage> messages = findMessages(roomCode, null, loadSize);
+        chatRecentMessageBuffer.load(roomCode, messages, messages.size() < loadSize);
+        return messages.size() > limit ? messages.subList(0, limit) : messages;
+    }
+
+    // (timestamp, _id) 기준 keyset 조회 - count 쿼리와 skip 없이 인덱스 범위만 읽음
+    private List<ChatMessage> findMessages(int roomCode, String cursor, int limit) {
+        Criteria criteria = ChatMessageCursor.olderThan(Criteria.where("roomCode").is(roomCode), cursor);
+        Query query = Query.query(criteria)
+                .with(ChatMessageCursor.ORDER)
+                .limit(limit);
+        query.fields().exclude("searchGrams");
+        return mongoTemplate.find(query, ChatMessage.class);
+    }
+
     public void markMessagesAsRead(int roomCode, String userCode) {
+        chatReadWatermarkService.markRead(roomCode, userCode, LocalDateTime.now());
         chatRedisService.updateRoomMessageStatus(roomCode, userCode, true);
     }
 
-    public void saveMessage(ChatMessageRequestDTO chatMessageRequestDTO, String userCode, int roomCode) {
+    // 메시지는 ChatMessageBatchWriter를 통해 일괄 저장되며, 반환된 future는 MongoDB 저장 완료 시 완료됨
+    public CompletableFuture<ChatMessage> saveMessage(ChatMessageRequestDTO chatMessageRequestDTO, String userCode, int roomCode) {
+        String receiverCode = chatRoomMembershipCache.getOtherUserCode(roomCode, userCode);
+        return saveMessage(chatMessageRequestDTO, userCode, roomCode, chatPresenceService.isViewing(receiverCode, roomCode));
+    }
+
+    // receiverViewing: 수신자가 채팅방을 보고 있으면 안 읽은 메시지 수를 올리지 않음
+    // 참여자, 닉네임은 캐시에서 확인하므로 메시지마다 MySQL을 조회하지 않음
+    public CompletableFuture<ChatMessage> saveMessage(ChatMessageRequestDTO chatMessageRequestDTO, String userCode, int roomCode,
+                                                      boolean receiverViewing) {
         ChatMessage chatMessage = ChatMessage.builder()
                 .roomCode(roomCode)
                 .userCode(userCode)
+                .nickname(chatRoomMembershipCache.getNickname(roomCode, userCode))
                 .message(chatMessageRequestDTO.getMessage())
-                .timestamp(LocalDateTime.now())
-                .isRead(false)
+                .searchGrams(ChatMessageNgram.of(chatMessageRequestDTO.getMessage()))
+                // MongoDB 저장 정밀도(ms)에 맞춰 최근 메시지 버퍼, 커서와 같은 값을 사용
+                .timestamp(LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS))
                 .build();
 
         log.debug("ChatMessage saving... {}", chatMessage);
-        chatMessageRepository.save(chatMessage);
-        ChatRoom chatRoom = chatRoomRepository.findById(roomCode).orElseThrow(ChatRoomNotFoundException::new);
-        //상대방 유저코드 얻어오기
-        String receiverCode;
-        if (chatRoom.getUser1().getCode().equals(userCode)) {receiverCode = chatRoom.getUser2().getCode();}
-        else {receiverCode = chatRoom.getUser1().getCode();}
-        chatRedisService.updateRoomMessageStatus(roomCode, receiverCode, false);
-        chatRoom.setUpdatedAt(LocalDateTime.now());
-        chatRoomRepository.save(chatRoom);
-        log.info("메시지 저장 완료: Room {}, Message {}", roomCode, chatMessageRequestDTO.getMessage());
+        CompletableFuture<ChatMessage> saved = chatMessageBatchWriter.enqueue(chatMessage);
+        if (saved.isCompletedExceptionally()) {
+            return saved; // 저장 대기열이 가득 차 거절됨 (안 읽은 수, 마지막 메시지 갱신 생략)
+        }
+        // writer가 대기열 순서대로 저장을 완료하므로 버퍼에도 같은 순서로 추가됨
+        // 저장에 실패한 메시지가 있으면 버퍼를 비워 다음 조회에서 MongoDB 기준으로 다시 채움 (버퍼에 빈 구간이 남지 않음)
+        LocalDateTime previousMessageAt = getPreviousMessageAt(roomCode, chatMessage.getTimestamp());
+        saved.whenComplete((message, e) -> {
+            if (e == null) chatRecentMessageBuffer.append(message, previousMessageAt);
+            else chatRecentMessageBuffer.invalidate(roomCode);
+        });
+        if (!receiverViewing) {
+            //상대방 유저코드 얻어오기
+            String receiverCode = chatRoomMembershipCache.getOtherUserCode(roomCode, userCode);
+            chatRedisService.updateRoomMessageStatus(roomCode, receiverCode, false);
+        }
+        // 채팅방 목록 정렬용 마지막 메시지는 모아서 주기적으로 반영
+        chatRoomActivityService.record(roomCode, chatMessage.getMessage(), chatMessage.getTimestamp());
+        log.info("메시지 저장 요청 완료: Room {}, Message {}", roomCode, chatMessageRequestDTO.getMessage());
+        return saved;
     }
 
-    private boolean isUserInChatRoom(String userCode, int roomCode) {
-        return chatRoomRepository.findById(roomCode)
-                .map(chatRoom -> chatRoom.getUser1().getCode().equals(userCode) || chatRoom.getUser2().getCode().equals(userCode))
-                .orElse(false);
+    // 직전 메시지 시각 (다른 서버의 메시지 포함), Redis에 값이 없을 때만 채팅방 정보로 확인
+    private LocalDateTime getPreviousMessageAt(int roomCode, LocalDateTime timestamp) {
+        return chatRedisService.getAndSetLastMessageAt(roomCode, timestamp)
+                .orElseGet(() -> chatRoomRepository.findById(roomCode)
+                        .map(chatRoomActivityService::getLastMessageAt)
+                        .orElse(null));
     }
 
-    private ChatMessageResponseDTO convertToResponseDTO(ChatMessage chatMessage) {
+    // 참여자 정보는 캐시에서 확인 (DB 조회 없음)
+    public boolean isUserInChatRoom(String userCode, int roomCode) {
+        return chatRoomMembershipCache.isParticipant(roomCode, userCode);
+    }
+
+    // 현재 닉네임(참여자 정보)을 우선 사용하고, 없으면 메시지에 저장된 스냅샷 사용
+    private ChatMessageResponseDTO convertToResponseDTO(ChatMessage chatMessage, Map<String, String> nicknames) {
+        String nickname = nicknames.get(chatMessage.getUserCode());
         return ChatMessageResponseDTO.builder()
-                .nickname(getUserByUserCode(chatMessage.getUserCode()).getNickname())
+                .nickname(nickname != null ? nickname : chatMessage.getNickname())
                 .message(chatMessage.getMessage())
                 .timestamp(chatMessage.getTimestamp())
                 .build();
     }
 
-    private User getUserByUserCode(String userCode) {
-        return userRepository.findByCode(userCode).orElseThrow(UserNotFoundException::new);
-    }
-
-    private User getOtherUser(ChatRoom chatRoom, String userCode) {
-        return chatRoom.getUser1().getCode().equals(userCode) ? chatRoom.getUser2() : chatRoom.getUser1();
-    }
-
-    // roomCode로 채팅방 조회 후 상대 참여자 userCode 반환
+    // roomCode로 상대 참여자 userCode 반환
     public String getOtherUserByRoomCode(int roomCode, String userCode) {
-        ChatRoom chatRoom = chatRoomRepository.findById(roomCode)
-                .orElseThrow(ChatRoomNotFoundException::new);
-        User otherUser = getOtherUser(chatRoom, userCode);
-        return otherUser.getCode();
+        return chatRoomMembershipCache.getOtherUserCode(roomCode, userCode);
     }
 }
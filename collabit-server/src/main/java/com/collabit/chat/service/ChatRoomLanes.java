@@ -0,0 +1,87 @@
+package com.collabit.chat.service;
+
+import com.collabit.chat.exception.ChatOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// roomCode 기준으로 채팅 처리를 단일 스레드 lane에 분배
+// 같은 채팅방의 작업은 항상 같은 lane에서 순서대로 실행되고, 다른 채팅방은 lane 수만큼 병렬로 처리됨
+// lane별 대기열은 queue-capacity로 제한하고, 가득 차면 ChatOverloadedException으로 보낸 사람에게 알림
+// lane에서 저장 요청을 넣으므로 메시지 저장소보다 먼저 종료되도록 의존 관계 지정
+@Slf4j
+@Service
+@DependsOn("chatMessageBatchWriter")
+public class ChatRoomLanes {
+
+    private final ThreadPoolExecutor[] lanes;
+    private final Counter rejectedCounter;
+
+    public ChatRoomLanes(MeterRegistry meterRegistry,
+                         @Value("${chat.lanes.count:0}") int laneCount,
+                         @Value("${chat.lanes.queue-capacity:1000}") int queueCapacity) {
+        int count = laneCount > 0 ? laneCount : Runtime.getRuntime().availableProcessors();
+        this.lanes = new ThreadPoolExecutor[count];
+        for (int i = 0; i < count; i++) {
+            String threadName = "chat-lane-" + i;
+            lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(queueCapacity), runnable -> {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+            Gauge.builder("chat.lane.queue.size", lanes[i], executor -> executor.getQueue().size())
+                    .description("lane별 처리 대기 중인 채팅 작업 수")
+                    .tag("lane", String.valueOf(i))
+                    .register(meterRegistry);
+        }
+        this.rejectedCounter = Counter.builder("chat.lane.rejected")
+                .description("lane 대기열이 가득 차 거절된 채팅 작업 수")
+                .register(meterRegistry);
+        log.info("Chat room lanes started: {}", count);
+    }
+
+    // 채팅방의 lane에 작업 추가 (lane 안에서 예외가 나도 다음 작업은 계속 처리됨)
+    public void execute(int roomCode, Runnable task) {
+        try {
+            laneOf(roomCode).execute(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    log.error("Chat task failed in room {}", roomCode, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("Chat lane is full, rejecting task for room {}", roomCode);
+            throw new ChatOverloadedException();
+        }
+    }
+
+    private ThreadPoolExecutor laneOf(int roomCode) {
+        return lanes[Math.floorMod(roomCode, lanes.length)];
+    }
+
+    // 종료 시 대기 중인 작업을 처리한 뒤 종료
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+        for (ThreadPoolExecutor lane : lanes) {
+            if (!lane.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("Chat lane did not finish in time, {} tasks pending", lane.getQueue().size());
+                lane.shutdownNow();
+            }
+        }
+    }
+}
@@ -1,9 +1,7 @@
 package com.collabit.chat.service;
 
 import com.collabit.chat.domain.dto.*;
-import com.collabit.chat.domain.entity.ChatMessage;
 import com.collabit.chat.domain.entity.ChatRoom;
-import com.collabit.chat.repository.ChatMessageRepository;
 import com.collabit.chat.repository.ChatRoomRepository;
 import com.collabit.global.common.PageResponseDTO;
 import com.collabit.user.domain.entity.User;
@@ -18,8 +16,8 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -29,10 +27,12 @@ import java.util.stream.Collectors;
 public class ChatRoomListService {
 
     private final ChatRoomRepository chatRoomRepository;
-    private final ChatMessageRepository chatMessageRepository;
     private final ChatRedisService chatRedisService;
     private final UserRepository userRepository;
     private final ChatRoomDetailService chatRoomDetailService;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+    private final ChatReadWatermarkService chatReadWatermarkService;
+    private final ChatRoomActivityService chatRoomActivityService;
 
     // 닉네임으로 사용자 찾기
     private User getUserByNickname(String nickname) {
@@ -67,9 +67,10 @@ public class ChatRoomListService {
         // 채팅방 중복 확인 또는 새 채팅방 생성
         ChatRoom chatRoom = chatRoomRepository.findByUniqueCode(uniqueCode)
                 .orElseGet(() -> createNewChatRoom(userCode, userCode2, uniqueCode));
+        chatRoomMembershipCache.put(chatRoom);
         log.debug("Chat room code {} for user code {}", chatRoom.getCode(), userCode);
         ChatMessageRequestDTO chatMessageRequestDTO = ChatMessageRequestDTO.builder().message(requestDTO.getMessage()).timestamp(LocalDateTime.now()).build();
-        chatRoomDetailService.saveMessage(chatMessageRequestDTO, userCode, chatRoom.getCode());
+        chatRoomDetailService.saveMessage(chatMessageRequestDTO, userCode, chatRoom.getCode()).join(); // 저장 완료 후 응답
         return buildChatRoomResponseDTO(chatRoom);
     }
 
@@ -78,10 +79,17 @@ public class ChatRoomListService {
         User user1 = userRepository.findById(userCode1).orElseThrow(UserNotFoundException::new);
         User user2 = userRepository.findById(userCode2).orElseThrow(UserNotFoundException::new);
         log.debug("Creating new chat room {}", uniqueCode);
+        LocalDateTime now = LocalDateTime.now();
         return chatRoomRepository.save(
                 ChatRoom.builder()
                         .user1(user1)
                         .user2(user2)
+                        .user1Nickname(user1.getNickname())
+                        .user1ProfileImage(user1.getProfileImage())
+                        .user2Nickname(user2.getNickname())
+                        .user2ProfileImage(user2.getProfileImage())
+                        .user1LastReadAt(now)
+                        .user2LastReadAt(now)
                         .uniqueCode(uniqueCode)
                         .build()
         );
@@ -96,15 +104,20 @@ public class ChatRoomListService {
 
     public PageResponseDTO<ChatRoomListResponseDTO> getChatRoomList(String userCode, int pageNumber) {
         int size = 15;
-        Pageable pageable = PageRequest.of(pageNumber, size, Sort.by(Sort.Order.desc("updatedAt")));
-        User user = userRepository.findById(userCode).orElseThrow();
-        // 채팅방 리스트 조회
-        Page<ChatRoom> chatRoomPage = chatRoomRepository.findByUser1OrUser2(user, user, pageable);
+        Pageable pageable = PageRequest.of(pageNumber, size,
+                Sort.by(Sort.Order.desc("lastMessageAt"), Sort.Order.desc("code")));
+        // 채팅방 요약 리스트 조회 (최신 메시지순)
+        // 모든 페이지를 DB 정렬 하나로 나누므로 중복, 누락이 없음 (정렬은 마지막 메시지 반영 주기만큼 늦을 수 있음)
+        Page<ChatRoom> chatRoomPage = chatRoomRepository.findByParticipantCode(userCode, pageable);
         log.debug("Chat room count {}", chatRoomPage.toString());
-        // 채팅방 리스트를 생성하고, 각 채팅방의 최신 메시지와 함께 반환
-        List<ChatRoomListResponseDTO> chatRoomList = chatRoomPage.getContent().stream()
-                .map(chatRoom -> buildChatRoomListResponse(chatRoom, userCode)) // 최신 메시지 시간 포함하여 생성
-                .sorted(Comparator.comparing(ChatRoomListResponseDTO::getLastMessageTime).reversed()) // 최신 메시지 기준으로 한 번 더 정렬
+        List<ChatRoom> chatRooms = chatRoomPage.getContent();
+        // 페이지 내 채팅방들의 안 읽은 메시지 수를 한 번에 조회
+        List<Integer> roomCodes = chatRooms.stream().map(ChatRoom::getCode).toList();
+        Map<Integer, Integer> unreadCounts = chatRedisService.getUnreadMessagesCounts(userCode, roomCodes);
+        // 미리보기와 시각은 반영 대기 중인 값까지 합쳐서 보여줌
+        List<ChatRoomListResponseDTO> chatRoomList = chatRooms.stream()
+                .map(chatRoom -> buildChatRoomListResponse(chatRoom, userCode, chatRoomActivityService.getActivity(chatRoom),
+                        unreadCounts))
                 .collect(Collectors.toList());
         return PageResponseDTO.<ChatRoomListResponseDTO>builder()
                 .content(chatRoomList)
@@ -117,27 +130,30 @@ public class ChatRoomListService {
                 .build();
     }
 
+    // Redis 카운터가 없는데 읽음 위치 이후 메시지가 있으면(Redis 초기화 등) 읽음 위치 기준으로 다시 계산
+    private int resolveUnreadCount(ChatRoom chatRoom, String userCode, LocalDateTime lastMessageAt, Map<Integer, Integer> unreadCounts) {
+        Integer unreadCount = unreadCounts.get(chatRoom.getCode());
+        if (unreadCount != null) return unreadCount;
+        LocalDateTime lastReadAt = chatReadWatermarkService.getLastReadAt(chatRoom.getCode(), userCode, chatRoom.getLastReadAt(userCode));
+        if (lastMessageAt == null || (lastReadAt != null && !lastMessageAt.isAfter(lastReadAt))) {
+            return 0;
+        }
+        return chatReadWatermarkService.countUnread(chatRoom.getCode(), userCode, lastReadAt);
+    }
 
-    // Redis와 연동하여 채팅방 리스트 응답 DTO 생성
-    private ChatRoomListResponseDTO buildChatRoomListResponse(ChatRoom chatRoom, String userCode) {
-        ChatMessage lastMessage = chatMessageRepository.findTopByRoomCodeOrderByTimestampDesc(chatRoom.getCode());
-        int unreadCount = chatRedisService.getUnreadMessagesCount(chatRoom.getCode(), userCode);
-
-        // 상대 유저 정보 조회
-        User otherUser = getOtherUser(chatRoom, userCode);
+    // 채팅방 요약 정보와 반영 대기 중인 마지막 메시지로 채팅방 리스트 응답 DTO 생성
+    private ChatRoomListResponseDTO buildChatRoomListResponse(ChatRoom chatRoom, String userCode, ChatRoomActivity activity,
+                                                              Map<Integer, Integer> unreadCounts) {
+        // 상대 유저 정보는 요약 컬럼 사용 (user 지연 로딩 없음)
+        boolean isUser1 = chatRoom.getUser1().getCode().equals(userCode);
         return ChatRoomListResponseDTO.builder()
                 .roomCode(chatRoom.getCode())
-                .lastMessage(lastMessage != null ? lastMessage.getMessage() : null)
-                .lastMessageTime(lastMessage != null ? lastMessage.getTimestamp() : null)
-                .unreadMessageCount(unreadCount)
-                .nickname(otherUser.getNickname())
-                .profileImage(otherUser.getProfileImage())
+                .lastMessage(activity.lastMessage())
+                .lastMessageTime(activity.lastMessageAt())
+                .unreadMessageCount(resolveUnreadCount(chatRoom, userCode, activity.lastMessageAt(), unreadCounts))
+                .nickname(isUser1 ? chatRoom.getUser2Nickname() : chatRoom.getUser1Nickname())
+                .profileImage(isUser1 ? chatRoom.getUser2ProfileImage() : chatRoom.getUser1ProfileImage())
                 .build();
     }
 
-    // 상대 유저 정보 가져오기
-    private User getOtherUser(ChatRoom chatRoom, String userCode) {
-        return chatRoom.getUser1().getCode().equals(userCode) ? chatRoom.getUser2() : chatRoom.getUser1();
-    }
-
 }
@@ -0,0 +1,107 @@
+package com.collabit.chat.service;
+
+import com.collabit.chat.domain.dto.ChatRoomMembership;
+import com.collabit.chat.domain.entity.ChatRoom;
+import com.collabit.chat.exception.ChatRoomNotFoundException;
+import com.collabit.chat.repository.ChatRoomRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 채팅방 참여자 정보(참여자, 닉네임) in-memory 캐시 - 메시지 전송 경로에서 DB 조회 없이 사용
+// 참여자는 채팅방 생성 후 바뀌지 않으므로 무효화 없이 LRU로 크기만 제한하고, 닉네임은 프로필 변경 시 갱신
+// 다른 서버의 캐시에는 이전 닉네임이 남을 수 있으나 메시지에 저장되는 닉네임은 조회 시 현재 닉네임이 없을 때만 쓰임
+@Slf4j
+@Service
+public class ChatRoomMembershipCache {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final int maxSize;
+    private final int warmUpSize;
+    private final Map<Integer, ChatRoomMembership> memberships;
+
+    public ChatRoomMembershipCache(ChatRoomRepository chatRoomRepository,
+                                   @Value("${chat.membership-cache.max-size:10000}") int maxSize,
+                                   @Value("${chat.membership-cache.warm-up-size:1000}") int warmUpSize) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.maxSize = maxSize;
+        this.warmUpSize = Math.min(warmUpSize, maxSize);
+        this.memberships = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, ChatRoomMembership> eldest) {
+                return size() > ChatRoomMembershipCache.this.maxSize;
+            }
+        };
+    }
+
+    // 최근 대화가 있었던 채팅방부터 한 번의 쿼리로 미리 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (warmUpSize <= 0) return;
+        try {
+            List<ChatRoomMembership> recent = chatRoomRepository.findRecentMemberships(PageRequest.of(0, warmUpSize));
+            synchronized (memberships) {
+                recent.forEach(membership -> memberships.putIfAbsent(membership.roomCode(), membership));
+            }
+            log.info("Warmed up chat room membership cache with {} rooms", recent.size());
+        } catch (Exception e) {
+            log.error("Failed to warm up chat room membership cache", e);
+        }
+    }
+
+    // 캐시에 없으면 DB에서 조회 후 적재
+    public ChatRoomMembership get(int roomCode) {
+        ChatRoomMembership membership;
+        synchronized (memberships) {
+            membership = memberships.get(roomCode);
+        }
+        if (membership != null) return membership;
+
+        membership = chatRoomRepository.findMembershipByCode(roomCode).orElseThrow(ChatRoomNotFoundException::new);
+        synchronized (memberships) {
+            memberships.put(roomCode, membership);
+        }
+        return membership;
+    }
+
+    public boolean isParticipant(int roomCode, String userCode) {
+        try {
+            return get(roomCode).contains(userCode);
+        } catch (ChatRoomNotFoundException e) {
+            return false;
+        }
+    }
+
+    // 참여자가 아니면 UserNotInChatRoomException
+    public String getOtherUserCode(int roomCode, String userCode) {
+        return get(roomCode).getOtherUserCode(userCode);
+    }
+
+    public String getNickname(int roomCode, String userCode) {
+        return get(roomCode).getNickname(userCode);
+    }
+
+    // 새로 생성된 채팅방 등록
+    public void put(ChatRoom chatRoom) {
+        ChatRoomMembership membership = new ChatRoomMembership(chatRoom.getCode(),
+                chatRoom.getUser1().getCode(), chatRoom.getUser2().getCode(),
+                chatRoom.getUser1Nickname(), chatRoom.getUser2Nickname());
+        synchronized (memberships) {
+            memberships.put(membership.roomCode(), membership);
+        }
+    }
+
+    // 프로필 변경 시 캐시된 채팅방의 닉네임 갱신 (채팅방 요약 컬럼 갱신과 함께 호출)
+    public void updateNickname(String userCode, String nickname) {
+        synchronized (memberships) {
+            memberships.replaceAll((roomCode, membership) -> membership.withNickname(userCode, nickname));
+        }
+    }
+}
@@ -2,8 +2,15 @@ package com.collabit.chat.service;
 
 import com.collabit.chat.domain.dto.ChatMessageRequestDTO;
 import com.collabit.chat.domain.dto.WebSocketMessageDTO;
+import com.collabit.chat.domain.entity.ChatMessage;
+import com.collabit.chat.exception.ChatMessageNotSavedException;
+import com.collabit.chat.exception.ChatOverloadedException;
+import com.collabit.chat.exception.UserNotInChatRoomException;
+import com.collabit.chat.redis.ChatRoomRelay;
 import com.collabit.chat.redis.RedisPublisher;
 import com.collabit.user.domain.entity.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
@@ -11,39 +18,91 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class WebSocketService {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    // 보낸 사람에게만 전달하는 오류 알림 (/user/queue/errors)
+    public static final String ERROR_DESTINATION = "/queue/errors";
+
     private final RedisPublisher redisPublisher;
+    private final ObjectMapper objectMapper;
     private final ChatRedisService chatRedisService;
     private final ChatRoomDetailService chatRoomDetailService;
     private final ChatSseEmitterService chatSseEmitterService;
+    private final ChatRoomLanes chatRoomLanes;
+    private final ChatPresenceService chatPresenceService;
+    private final ChatReadWatermarkService chatReadWatermarkService;
+    private final SimpMessagingTemplate messagingTemplate;
 
-    // 채팅 메시지 처리
+    // 채팅 메시지 처리 - 채팅방 참여자만 보낼 수 있고, 채팅방 lane에 넘겨 같은 채팅방 메시지는 도착 순서대로 처리
     public void handleChatMessage(WebSocketMessageDTO messageDTO, String userCode) {
         int roomCode = messageDTO.getRoomCode();
-        log.debug("Handling chat message: room={}, user={}", roomCode, userCode);
-        // Redis에 메시지 발행 (다중 서버 환경을 위해)
-        String channelKey =  "chat_message:" + roomCode;
-        redisPublisher.publish(channelKey, messageDTO);
-        // STOMP를 통해 클라이언트에게 메시지 전송
-        String destination = "/topic/chat/" + roomCode;
-        messagingTemplate.convertAndSend(destination, messageDTO);
+        if (!chatRoomDetailService.isUserInChatRoom(userCode, roomCode)) {
+            log.debug("User {} is not in chat room {}", userCode, roomCode);
+            throw new UserNotInChatRoomException();
+        }
+        chatRoomLanes.execute(roomCode, () -> processChatMessage(messageDTO, userCode));
+    }
 
+    private void processChatMessage(WebSocketMessageDTO messageDTO, String userCode) {
+        int roomCode = messageDTO.getRoomCode();
+        log.debug("Handling chat message: room={}, user={}", roomCode, userCode);
         ChatMessageRequestDTO chatMessage = ChatMessageRequestDTO.builder()
                 .message(messageDTO.getMessage())
                 .timestamp(LocalDateTime.now())
                 .build();
-        chatRoomDetailService.saveMessage(chatMessage, userCode, roomCode);
-        chatRedisService.updateRoomMessageStatus(roomCode, userCode, true);
-
-        // 수신자의 모든 안 읽은 채팅방 코드 목록 조회 후 SSE로 전송
         String otherUserCode = chatRoomDetailService.getOtherUserByRoomCode(roomCode, userCode);
-        List<Integer> unreadRooms = chatRedisService.getUnreadChatRoomForUser(otherUserCode);
-        chatSseEmitterService.sendUnreadChatRooms(otherUserCode, unreadRooms); // 상대 유저에게 안읽은 방 알림 전송
+        // 수신자가 채팅방을 보고 있으면 안 읽은 메시지 수 증가와 SSE 알림을 생략
+        boolean receiverViewing = chatPresenceService.isViewing(otherUserCode, roomCode);
+        CompletableFuture<ChatMessage> saved = chatRoomDetailService.saveMessage(chatMessage, userCode, roomCode, receiverViewing);
+        if (saved.isCompletedExceptionally()) {
+            // 저장 대기열이 가득 차 거절된 메시지는 전달하지 않고 보낸 사람에게 알림
+            log.warn("Chat message rejected: room={}, user={}", roomCode, userCode);
+            notifySender(userCode, new ChatOverloadedException());
+            return;
+        }
+        // MongoDB 저장이 끝난 메시지만 전달 (writer가 저장 순서대로 완료시키므로 채팅방 내 전달 순서 유지)
+        // 메시지를 한 번만 직렬화해 Redis에 발행 -> 채팅방을 구독 중인 각 서버가 같은 바이트를 로컬 구독자에게 전달
+        saved.whenComplete((message, e) -> {
+            if (e != null) {
+                log.error("Failed to persist chat message: room={}, user={}", roomCode, userCode, e);
+                notifySender(userCode, new ChatMessageNotSavedException());
+                return;
+            }
+            redisPublisher.publish(ChatRoomRelay.channelOf(roomCode), serialize(messageDTO));
+        });
+
+        saved
+                // 수신자의 모든 안 읽은 채팅방 코드 목록 조회 후 SSE로 전송 (메시지 저장 완료 후)
+                .thenRunAsync(() -> {
+                    if (receiverViewing) return;
+                    List<Integer> unreadRooms = chatRedisService.getUnreadChatRoomForUser(otherUserCode);
+                    chatSseEmitterService.sendUnreadChatRooms(otherUserCode, unreadRooms); // 상대 유저에게 안읽은 방 알림 전송
+                })
+                .exceptionally(e -> {
+                    log.debug("Skipped unread notification: room={}, user={}", roomCode, userCode, e);
+                    return null;
+                });
+        // 보낸 사람은 채팅방의 메시지를 모두 읽은 상태, 보고 있는 수신자도 방금 메시지까지 읽음 처리
+        chatRoomDetailService.markMessagesAsRead(roomCode, userCode);
+        if (receiverViewing) {
+            chatReadWatermarkService.markRead(roomCode, otherUserCode, LocalDateTime.now());
+        }
+    }
+
+    private void notifySender(String userCode, RuntimeException e) {
+        messagingTemplate.convertAndSendToUser(userCode, ERROR_DESTINATION, e.getMessage());
+    }
+
+    private byte[] serialize(WebSocketMessageDTO messageDTO) {
+        try {
+            return objectMapper.writeValueAsBytes(messageDTO);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("채팅 메시지 직렬화에 실패했습니다.", e);
+        }
     }
 }
@@ -0,0 +1,158 @@
+package com.collabit.chat.websocket;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 채팅 메시지 micro-batch 전송 (outbound 채널 interceptor)
+// SUBSCRIBE 시 x-batch: true 헤더를 보낸 구독은 window-ms 동안 도착한 메시지를 JSON 배열 하나의 MESSAGE 프레임으로 묶어 전송
+// 헤더를 보내지 않은 기존 클라이언트는 메시지 하나당 프레임 하나로 그대로 전송
+@Slf4j
+@Component
+public class ChatFrameBatcher implements ChannelInterceptor {
+
+    public static final String BATCH_HEADER = "x-batch";
+    public static final String BATCH_SIZE_HEADER = "x-batch-size";
+    private static final String BATCHED = "chatFrameBatched"; // 이미 묶인 메시지 표시 (STOMP 프레임에는 포함되지 않음)
+    private static final String CHAT_DESTINATION_PREFIX = "/topic/chat/";
+
+    private final long windowMs;
+    private final int maxMessages;
+    private final DistributionSummary batchSize;
+
+    // sessionId -> 묶음 전송을 요청한 subscriptionId
+    private final Map<String, Set<String>> batchSubscriptions = new ConcurrentHashMap<>();
+    // sessionId + subscriptionId -> 전송 대기 중인 묶음
+    private final Map<BatchKey, PendingBatch> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "chat-frame-batcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ChatFrameBatcher(MeterRegistry meterRegistry,
+                            @Value("${chat.stomp.batch.window-ms:5}") long windowMs,
+                            @Value("${chat.stomp.batch.max-messages:50}") int maxMessages) {
+        this.windowMs = windowMs;
+        this.maxMessages = maxMessages;
+        this.batchSize = DistributionSummary.builder("chat.websocket.batch.size")
+                .description("묶음 프레임 하나에 포함된 채팅 메시지 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith(CHAT_DESTINATION_PREFIX)) return;
+        if (!"true".equalsIgnoreCase(accessor.getFirstNativeHeader(BATCH_HEADER))) return;
+        batchSubscriptions.computeIfAbsent(accessor.getSessionId(), id -> ConcurrentHashMap.newKeySet())
+                .add(accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Set<String> subscriptions = batchSubscriptions.get(accessor.getSessionId());
+        if (subscriptions != null) subscriptions.remove(accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        batchSubscriptions.remove(event.getSessionId());
+        pending.keySet().removeIf(key -> key.sessionId().equals(event.getSessionId()));
+    }
+
+    // 묶음 전송 대상이면 메시지를 보류하고 null을 반환해 개별 전송을 막음
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!(message.getPayload() instanceof byte[] payload)) return message;
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE || accessor.getHeader(BATCHED) != null) return message;
+        Set<String> subscriptions = batchSubscriptions.get(accessor.getSessionId());
+        if (subscriptions == null || !subscriptions.contains(accessor.getSubscriptionId())) return message;
+
+        BatchKey key = new BatchKey(accessor.getSessionId(), accessor.getSubscriptionId());
+        PendingBatch[] full = new PendingBatch[1];
+        // 구독별로만 잠금 (ConcurrentHashMap.compute는 key 단위로 원자적이므로 다른 세션, 구독의 전송은 서로 막지 않음)
+        pending.compute(key, (batchKey, batch) -> {
+            if (batch == null) {
+                batch = new PendingBatch(message, channel);
+                scheduler.schedule(() -> flush(batchKey), windowMs, TimeUnit.MILLISECONDS);
+            }
+            batch.payloads().add(payload);
+            // 최대 개수에 도달하면 window를 기다리지 않고 바로 전송
+            if (batch.payloads().size() >= maxMessages) {
+                full[0] = batch;
+                return null;
+            }
+            return batch;
+        });
+        if (full[0] != null) send(full[0].first(), channel, full[0].payloads());
+        return null;
+    }
+
+    private void flush(BatchKey key) {
+        PendingBatch batch = pending.remove(key);
+        if (batch != null) send(batch.first(), batch.channel(), batch.payloads());
+    }
+
+    // 첫 메시지의 헤더(세션, 구독, destination)를 그대로 사용하고 payload만 JSON 배열로 교체
+    private void send(Message<?> first, MessageChannel channel, List<byte[]> payloads) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.write('[');
+        for (int i = 0; i < payloads.size(); i++) {
+            if (i > 0) body.write(',');
+            body.writeBytes(payloads.get(i));
+        }
+        body.write(']');
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(first);
+        accessor.setHeader(BATCHED, Boolean.TRUE);
+        accessor.setNativeHeader(BATCH_SIZE_HEADER, String.valueOf(payloads.size()));
+        try {
+            channel.send(MessageBuilder.createMessage(body.toByteArray(), accessor.getMessageHeaders()));
+            batchSize.record(payloads.size());
+        } catch (Exception e) {
+            log.warn("Failed to send batched chat frame: session={}", accessor.getSessionId(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    private record BatchKey(String sessionId, String subscriptionId) {
+    }
+
+    private record PendingBatch(Message<?> first, MessageChannel channel, List<byte[]> payloads) {
+        private PendingBatch(Message<?> first, MessageChannel channel) {
+            this(first, channel, new ArrayList<>());
+        }
+    }
+}
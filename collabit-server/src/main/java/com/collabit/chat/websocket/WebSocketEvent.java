@@ -8,19 +8,30 @@ public class WebSocketEvent {
     @Getter
     @RequiredArgsConstructor
     public static class UserConnectEvent {
-        private final String nickname;
+        private final String userCode;
     }
     
     @Getter
     @RequiredArgsConstructor
     public static class UserSubscribeEvent {
-        private final String nickname;
+        private final String userCode;
         private final int roomCode;
+        private final String sessionId;
+        private final String subscriptionId;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class UserUnsubscribeEvent {
+        private final String userCode;
+        private final String sessionId;
+        private final String subscriptionId;
     }
     
     @Getter
     @RequiredArgsConstructor
     public static class UserDisconnectEvent {
-        private final String nickname;
+        private final String userCode;
+        private final String sessionId;
     }
-} 
\ No newline at end of file
+}
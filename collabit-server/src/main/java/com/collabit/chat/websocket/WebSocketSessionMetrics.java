@@ -0,0 +1,155 @@
+package com.collabit.chat.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.config.WebSocketMessageBrokerStats;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+
+// STOMP WebSocket 세션/전송 지표
+// - 세션별 실제 전송(버퍼 flush)의 크기와 시간, 현재 가장 오래 걸리고 있는 전송 시간
+// - 종료 사유별 세션 수 (전송 버퍼/시간 제한 초과로 끊긴 느린 세션 포함)
+// - inbound/outbound 채널 스레드 풀의 queue 크기와 활성 스레드 수
+@Slf4j
+@Component
+public class WebSocketSessionMetrics {
+
+    private static final String[] CHANNEL_EXECUTORS = {"clientInboundChannelExecutor", "clientOutboundChannelExecutor", "brokerChannelExecutor"};
+
+    private final MeterRegistry meterRegistry;
+    private final ListableBeanFactory beanFactory;
+    private final ObjectProvider<WebSocketMessageBrokerStats> brokerStats;
+    private final Timer sendTimer;
+    private final DistributionSummary sendBytes;
+
+    // sessionId -> 진행 중인 전송 시작 시각(nanoTime)
+    private final Map<String, Long> sendStartedAt = new ConcurrentHashMap<>();
+
+    public WebSocketSessionMetrics(MeterRegistry meterRegistry, ListableBeanFactory beanFactory,
+                                   ObjectProvider<WebSocketMessageBrokerStats> brokerStats) {
+        this.meterRegistry = meterRegistry;
+        this.beanFactory = beanFactory;
+        this.brokerStats = brokerStats;
+        this.sendTimer = Timer.builder("chat.websocket.send")
+                .description("세션별 WebSocket 프레임 전송 시간")
+                .register(meterRegistry);
+        this.sendBytes = DistributionSummary.builder("chat.websocket.send.bytes")
+                .description("세션별 WebSocket 프레임 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("chat.websocket.send.stalled.max", this, WebSocketSessionMetrics::longestSendMillis)
+                .description("진행 중인 전송 중 가장 오래 걸리고 있는 전송 시간(ms)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+
+        registerSessionGauge("open", SubProtocolWebSocketHandler.Stats::getWebSocketSessions);
+        registerSessionGauge("limit_exceeded", SubProtocolWebSocketHandler.Stats::getLimitExceededSessions);
+        registerSessionGauge("no_messages_received", SubProtocolWebSocketHandler.Stats::getNoMessagesReceivedSessions);
+        registerSessionGauge("transport_error", SubProtocolWebSocketHandler.Stats::getTransportErrorSessions);
+    }
+
+    // 채널 스레드 풀은 WebSocket 설정이 끝난 뒤 생성되므로 기동 완료 후 등록
+    @EventListener(ApplicationReadyEvent.class)
+    public void bindChannelExecutors() {
+        for (String name : CHANNEL_EXECUTORS) {
+            if (!beanFactory.containsBean(name)) continue;
+            Object executor = beanFactory.getBean(name);
+            if (executor instanceof ThreadPoolTaskExecutor taskExecutor) {
+                new ExecutorServiceMetrics(taskExecutor.getThreadPoolExecutor(), name, Tags.empty()).bindTo(meterRegistry);
+            }
+        }
+    }
+
+    // WebSocketTransportRegistration.addDecoratorFactory에 등록
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                super.afterConnectionEstablished(new MeteredSession(session));
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sendStartedAt.remove(session.getId());
+                Counter.builder("chat.websocket.session.closed")
+                        .description("종료 사유별 WebSocket 세션 수")
+                        .tag("reason", closeReason(closeStatus))
+                        .register(meterRegistry)
+                        .increment();
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    private String closeReason(CloseStatus closeStatus) {
+        // 전송 버퍼/시간 제한 초과 시 SubProtocolWebSocketHandler가 SESSION_NOT_RELIABLE로 종료
+        if (closeStatus.equalsCode(CloseStatus.SESSION_NOT_RELIABLE)) return "slow_consumer";
+        if (closeStatus.equalsCode(CloseStatus.NORMAL) || closeStatus.equalsCode(CloseStatus.GOING_AWAY)) return "normal";
+        return "error";
+    }
+
+    private void registerSessionGauge(String state, ToDoubleFunction<SubProtocolWebSocketHandler.Stats> value) {
+        Gauge.builder("chat.websocket.sessions", brokerStats, provider -> {
+                    WebSocketMessageBrokerStats stats = provider.getIfAvailable();
+                    SubProtocolWebSocketHandler.Stats sessionStats = stats != null ? stats.getWebSocketSessionStats() : null;
+                    return sessionStats != null ? value.applyAsDouble(sessionStats) : 0;
+                })
+                .description("상태별 WebSocket 세션 수")
+                .tag("state", state)
+                .register(meterRegistry);
+    }
+
+    private double longestSendMillis() {
+        long now = System.nanoTime();
+        long longest = 0;
+        for (long startedAt : sendStartedAt.values()) {
+            longest = Math.max(longest, now - startedAt);
+        }
+        return Duration.ofNanos(longest).toMillis();
+    }
+
+    // 버퍼에서 실제 소켓으로 쓰는 전송을 측정하는 세션 래퍼
+    // (SubProtocolWebSocketHandler가 이 세션을 ConcurrentWebSocketSessionDecorator로 감싸므로 flush 시점에 호출됨)
+    private class MeteredSession extends WebSocketSessionDecorator {
+
+        MeteredSession(WebSocketSession delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            long startedAt = System.nanoTime();
+            sendStartedAt.put(getId(), startedAt);
+            try {
+                super.sendMessage(message);
+            } finally {
+                sendStartedAt.remove(getId(), startedAt);
+                sendTimer.record(Duration.ofNanos(System.nanoTime() - startedAt));
+                sendBytes.record(message.getPayloadLength());
+            }
+        }
+    }
+}
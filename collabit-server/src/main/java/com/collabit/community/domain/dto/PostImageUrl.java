@@ -0,0 +1,5 @@
+package com.collabit.community.domain.dto;
+
+// 게시글 목록 조회 시 여러 게시글의 이미지를 한 번에 조회하기 위한 projection
+public record PostImageUrl(int postCode, String url) {
+}
@@ -0,0 +1,7 @@
+package com.collabit.community.domain.dto;
+
+import java.time.LocalDateTime;
+
+// 인기 게시글 점수를 DB 값으로 다시 채울 때 필요한 게시글 정보
+public record PostTrendingSeed(int code, int likeCount, int commentCount, LocalDateTime createdAt) {
+}
@@ -20,6 +20,10 @@ import lombok.ToString;
 @AllArgsConstructor
 @Builder
 @ToString
+@Table(indexes = {
+    @Index(name = "idx_post_created_at", columnList = "createdAt"),
+    @Index(name = "idx_post_like_count_created_at", columnList = "likeCount, createdAt")
+})
 public class Post {
 
     @Id
@@ -39,6 +43,16 @@ public class Post {
     @Column
     private LocalDateTime updatedAt;
 
+    // 댓글 수 (삭제 표시된 댓글 포함), 댓글 작성 시 1 증가
+    @Column(nullable = false)
+    @Builder.Default
+    private int commentCount = 0;
+
+    // DB(post_like)에 반영된 좋아요 수, LikeSyncService가 반영 후 다시 집계
+    @Column(nullable = false)
+    @Builder.Default
+    private int likeCount = 0;
+
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Image> images;
 
@@ -1,8 +1,11 @@
 package com.collabit.community.repository;
 
+import com.collabit.community.domain.dto.PostImageUrl;
 import com.collabit.community.domain.entity.Image;
 import com.collabit.community.domain.entity.Post;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,4 +14,8 @@ import java.util.List;
 public interface ImageRepository extends JpaRepository<Image, Integer> {
     List<Image> findByPost(Post post);
     void deleteByUrl(String url);
+
+    // 여러 게시글의 이미지 URL을 한 번에 조회 (Image -> Post 즉시 로딩 없음)
+    @Query("SELECT new com.collabit.community.domain.dto.PostImageUrl(i.post.code, i.url) FROM Image i WHERE i.post.code IN :postCodes ORDER BY i.code")
+    List<PostImageUrl> findUrlsByPostCodes(@Param("postCodes") List<Integer> postCodes);
 }
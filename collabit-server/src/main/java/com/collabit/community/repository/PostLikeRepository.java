@@ -2,11 +2,17 @@ package com.collabit.community.repository;
 
 import com.collabit.community.domain.entity.PostLike;
 import com.collabit.community.domain.entity.PostLikeId;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PostLikeRepository extends JpaRepository<PostLike, PostLikeId> {
-    int countById_PostCode(int postCode);
     boolean existsById_UserCodeAndId_PostCode(String userCode, int postCode);
+
+    // 사용자가 좋아요한 게시글 코드 (캐시에 없는 게시글만)
+    @Query("SELECT pl.id.postCode FROM PostLike pl WHERE pl.id.userCode = :userCode AND pl.id.postCode IN :postCodes")
+    List<Integer> findLikedPostCodes(@Param("userCode") String userCode, @Param("postCodes") List<Integer> postCodes);
 }
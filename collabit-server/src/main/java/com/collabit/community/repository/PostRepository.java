@@ -1,13 +1,21 @@
 package com.collabit.community.repository;
 
+import com.collabit.community.domain.dto.PostTrendingSeed;
 import com.collabit.community.domain.entity.Post;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Integer> {
@@ -16,14 +24,43 @@ public interface PostRepository extends JpaRepository<Post, Integer> {
 
     void deleteByCode(int postCode);
 
-    @Query("SELECT p FROM Post p " +
-        "LEFT JOIN PostLike pl ON p.code = pl.id.postCode " +
-        "GROUP BY p " +
-        "ORDER BY COUNT(pl) DESC, p.createdAt DESC")
-    Page<Post> findTop5ByOrderByLikeCountAndCreatedAt(Pageable pageable);
+    // 좋아요 수 컬럼 인덱스(like_count, created_at)로 조회 (post_like 집계 없음)
+    @EntityGraph(attributePaths = "user")
+    List<Post> findTop5ByOrderByLikeCountDescCreatedAtDesc();
 
+    // 작성자는 목록 조회 시 함께 조회 (게시글마다 user 조회하지 않음)
+    @EntityGraph(attributePaths = "user")
     @Query("SELECT p FROM Post p ORDER BY p.createdAt DESC")
     Page<Post> findAll(Pageable pageable);
 
+    @EntityGraph(attributePaths = "user")
     Page<Post> findByUserCode(String userCode, Pageable pageable);
+
+    // 인기 게시글 코드로 조회 (작성자 포함)
+    @EntityGraph(attributePaths = "user")
+    List<Post> findByCodeIn(Collection<Integer> postCodes);
+
+    // 인기 게시글 순위가 비어 있을 때 다시 채울 최근 게시글
+    @Query("SELECT new com.collabit.community.domain.dto.PostTrendingSeed(p.code, p.likeCount, p.commentCount, p.createdAt) FROM Post p WHERE p.createdAt >= :since")
+    List<PostTrendingSeed> findTrendingSeeds(@Param("since") LocalDateTime since);
+
+    @Query("SELECT p.likeCount FROM Post p WHERE p.code = :postCode")
+    Optional<Integer> findLikeCountByCode(@Param("postCode") int postCode);
+
+    @Query("SELECT MAX(p.code) FROM Post p")
+    Optional<Integer> findMaxCode();
+
+    // 댓글 수 증가 (게시글을 읽지 않고 UPDATE 한 번으로 처리)
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + 1 WHERE p.code = :postCode")
+    int incrementCommentCount(@Param("postCode") int postCode);
+
+    // 코드 범위 안 게시글의 댓글/좋아요 수를 실제 행 수로 다시 집계 (PostCounterReconciler)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE post p SET " +
+        "p.comment_count = (SELECT COUNT(*) FROM comment c WHERE c.post_code = p.code), " +
+        "p.like_count = (SELECT COUNT(*) FROM post_like pl WHERE pl.post_code = p.code) " +
+        "WHERE p.code BETWEEN :fromCode AND :toCode", nativeQuery = true)
+    int reconcileCounts(@Param("fromCode") int fromCode, @Param("toCode") int toCode);
 }
@@ -22,6 +22,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -33,12 +34,17 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final PostTrendingService postTrendingService;
 
+    @Transactional
     public CreateCommentResponseDTO createComment(CreateCommentRequestDTO requestDTO,
         int postCode, String userCode) {
 
         Comment comment = buildComment(requestDTO, postCode, userCode);
         Comment savedComment = commentRepository.save(comment);
+        // 삭제는 isDeleted 표시만 하므로 댓글 수는 작성 시에만 변경
+        postRepository.incrementCommentCount(postCode);
+        postTrendingService.commented(postCode);
 
         log.debug("Comment created with code: {} for post: {}", savedComment.getCode(), postCode);
 
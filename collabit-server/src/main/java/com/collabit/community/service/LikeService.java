@@ -1,19 +1,19 @@
 package com.collabit.community.service;
 
 import com.collabit.community.domain.dto.LikeResponseDTO;
-import com.collabit.community.domain.entity.PostLike;
-import com.collabit.community.domain.entity.PostLikeId;
 import com.collabit.community.exception.DuplicateLikeException;
+import com.collabit.community.exception.PostNotFoundException;
 import com.collabit.community.repository.PostLikeRepository;
-import com.collabit.user.domain.entity.User;
-import com.collabit.user.exception.UserNotFoundException;
-import com.collabit.user.repository.UserRepository;
+import com.collabit.community.repository.PostRepository;
+import com.collabit.global.common.ErrorCode;
+import com.collabit.global.error.exception.BusinessException;
 import java.time.Duration;
-import java.util.Set;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -22,145 +22,86 @@ import org.springframework.stereotype.Service;
 public class LikeService {
 
     private final StringRedisTemplate redisTemplate;
+    private final PostRepository postRepository;
     private final PostLikeRepository postLikeRepository;
-    private final LikeCacheService likeCacheService;
-
-    private static final String CREATE_LIKE_PREFIX = "like::";
-    private static final String DELETE_LIKE_PREFIX = "cancel::";
-    private final UserRepository userRepository;
+    private final PostTrendingService postTrendingService;
+
+    // DB 반영 대기 중인 좋아요/취소 (LikeSyncService가 *_sync:: key로 옮긴 뒤 DB에 반영)
+    static final String CREATE_LIKE_PREFIX = "like::";
+    static final String DELETE_LIKE_PREFIX = "cancel::";
+    static final String CREATE_LIKE_SYNC_PREFIX = "like_sync::";
+    static final String DELETE_LIKE_SYNC_PREFIX = "cancel_sync::";
+    // 게시글별 DB 반영 완료 횟수 (반영 전에 조회한 DB 값으로 캐시를 채우지 않도록 확인)
+    static final String LIKE_GEN_PREFIX = "like_gen::";
+    // 좋아요 캐시 (게시글 조회 시 PostFeedAssembler가 MGET으로 함께 조회)
+    private static final String IS_LIKED_PREFIX = "isLiked::";
+    static final String LIKE_COUNT_PREFIX = "likeCount::";
+    private static final Duration CACHE_TTL = Duration.ofHours(2);
+
+    private static final long CACHE_MISS = -1;
+    private static final long ALREADY_APPLIED = 0;
+    private static final int MAX_SEED_ATTEMPTS = 3;
+
+    // 좋아요 상태 확인부터 반영 대기 set 갱신까지 Redis에서 원자적으로 처리
+    private static final RedisScript<List> TOGGLE_LIKE_SCRIPT =
+        RedisScript.of(new ClassPathResource("redis/toggle_like.lua"), List.class);
 
     public LikeResponseDTO like(String userCode, int postCode) {
         log.debug("Attempting to add like for post: {} by user: {}", postCode, userCode);
-
-        userRepository.findByCode(userCode)
-            .orElseThrow(() -> new UserNotFoundException());
-
-        if(likeCacheService.getIsLiked(userCode, postCode)) {
-            log.debug("Like already exists for post: {} by user: {}", postCode, userCode);
-            throw new DuplicateLikeException();
-        }
-
-        String isLikedKey = "isLiked::" + userCode + "likes" + postCode;
-        String likeCountKey = "likeCount::" + postCode;
-        String createKey = CREATE_LIKE_PREFIX + postCode;
-        String deleteKey = DELETE_LIKE_PREFIX + postCode;
-
-        log.debug("Setting like state in Redis for post: {}", postCode);
-        redisTemplate.opsForValue().set(isLikedKey, String.valueOf(true));
-        redisTemplate.expire(isLikedKey, Duration.ofHours(2));
-
-        int likeCount = likeCacheService.getLikeCount(postCode);
-        log.debug("Current like count for post {}: {}", postCode, likeCount);
-
-        redisTemplate.opsForValue().set(likeCountKey, String.valueOf(likeCount+1));
-        redisTemplate.expire(likeCountKey, Duration.ofHours(2));
-
-        if(redisTemplate.opsForSet().isMember(deleteKey, userCode)){
-            log.debug("Removing cancel request for post: {} by user: {}", postCode, userCode);
-            redisTemplate.opsForSet().remove(deleteKey, userCode);
-        } else {
-            log.debug("Adding like request for post: {} by user: {}", postCode, userCode);
-            redisTemplate.opsForSet().add(createKey, userCode);
-        }
-
-        log.debug("Like successfully added for post: {} by user: {}", postCode, userCode);
-        return LikeResponseDTO.builder()
-            .likeCount(likeCount+1)
-            .isLiked(true)
-            .build();
+        return toggle(userCode, postCode, true);
     }
 
     public LikeResponseDTO cancelLike(String userCode, int postCode) {
         log.debug("Attempting to cancel like for post: {} by user: {}", postCode, userCode);
+        return toggle(userCode, postCode, false);
+    }
 
-        userRepository.findByCode(userCode)
-            .orElseThrow(() -> new UserNotFoundException());
-
-        if(!likeCacheService.getIsLiked(userCode, postCode)) {
-            log.debug("Like does not exist for post: {} by user: {}", postCode, userCode);
+    // 캐시가 있으면 Redis 왕복 한 번으로 처리, 없을 때만 DB 값을 조회해 한 번 더 실행
+    private LikeResponseDTO toggle(String userCode, int postCode, boolean like) {
+        List<String> keys = List.of(
+            IS_LIKED_PREFIX + userCode + "likes" + postCode,
+            LIKE_COUNT_PREFIX + postCode,
+            CREATE_LIKE_PREFIX + postCode,
+            DELETE_LIKE_PREFIX + postCode,
+            CREATE_LIKE_SYNC_PREFIX + postCode,
+            DELETE_LIKE_SYNC_PREFIX + postCode,
+            LIKE_GEN_PREFIX + postCode);
+
+        List<Long> result = executeToggle(keys, userCode, like, "", "", "");
+        // DB 조회 중에 반영이 끝나면 스크립트가 다시 캐시 없음을 반환하므로 DB 값을 다시 조회
+        for (int attempt = 1; result.get(0) == CACHE_MISS; attempt++) {
+            if (attempt > MAX_SEED_ATTEMPTS) {
+                log.warn("Failed to seed like cache for post: {} after {} attempts", postCode, MAX_SEED_ATTEMPTS);
+                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+            }
+            log.debug("Like cache miss for post: {} by user: {}", postCode, userCode);
+            String generation = redisTemplate.opsForValue().get(LIKE_GEN_PREFIX + postCode);
+            boolean liked = postLikeRepository.existsById_UserCodeAndId_PostCode(userCode, postCode);
+            // post.like_count는 DB(post_like)에 반영된 좋아요 수, 반영 대기분은 스크립트에서 더함
+            int likeCount = postRepository.findLikeCountByCode(postCode)
+                .orElseThrow(PostNotFoundException::new);
+            result = executeToggle(keys, userCode, like, liked ? "1" : "0", String.valueOf(likeCount),
+                generation == null ? "" : generation);
+        }
+        if (result.get(0) == ALREADY_APPLIED) {
+            log.debug("Like state already {} for post: {} by user: {}", like, postCode, userCode);
             throw new DuplicateLikeException();
         }
 
-        String isLikedKey = "isLiked::" + userCode + "likes" + postCode;
-        String likeCountKey = "likeCount::" + postCode;
-        String createKey = CREATE_LIKE_PREFIX + postCode;
-        String deleteKey = DELETE_LIKE_PREFIX + postCode;
-
-        log.debug("Setting unlike state in Redis for post: {}", postCode);
-        redisTemplate.opsForValue().set(isLikedKey, String.valueOf(false));
-        redisTemplate.expire(isLikedKey, Duration.ofHours(2));
-
-        int likeCount = likeCacheService.getLikeCount(postCode);
-        log.debug("Current like count for post {}: {}", postCode, likeCount);
+        postTrendingService.liked(postCode, like);
 
-        redisTemplate.opsForValue().set(likeCountKey, String.valueOf(likeCount-1));
-        redisTemplate.expire(likeCountKey, Duration.ofHours(2));
-
-        if(redisTemplate.opsForSet().isMember(createKey, userCode)){
-            log.debug("Removing like request for post: {} by user: {}", postCode, userCode);
-            redisTemplate.opsForSet().remove(createKey, userCode);
-        } else {
-            log.debug("Adding cancel request for post: {} by user: {}", postCode, userCode);
-            redisTemplate.opsForSet().add(deleteKey, userCode);
-        }
-
-        log.debug("Like successfully cancelled for post: {} by user: {}", postCode, userCode);
+        int likeCount = result.get(1).intValue();
+        log.debug("Like {} for post: {} by user: {}, count: {}", like ? "added" : "cancelled", postCode, userCode, likeCount);
         return LikeResponseDTO.builder()
-            .likeCount(likeCount-1)
-            .isLiked(false)
+            .likeCount(likeCount)
+            .isLiked(like)
             .build();
     }
 
-    @Scheduled(fixedRate = 3000000)
-    public void syncLikeCountToDb() {
-        log.debug("Starting likes synchronization to database");
-
-        Set<String> keys = redisTemplate.keys(CREATE_LIKE_PREFIX + "*");
-        if (keys != null) {
-            log.debug("Found {} like requests to process", keys.size());
-
-            for (String key : keys) {
-                int postCode = Integer.parseInt(key.substring(CREATE_LIKE_PREFIX.length()));
-                Set<String> userCodes = redisTemplate.opsForSet().members(key);
-
-                if (userCodes != null) {
-                    log.debug("Processing {} likes for post: {}", userCodes.size(), postCode);
-                    for (String userCode : userCodes) {
-                        PostLike postLike = PostLike.builder()
-                            .id(new PostLikeId(userCode, postCode))
-                            .build();
-                        postLikeRepository.save(postLike);
-                        log.debug("Saved like for post: {} by user: {}", postCode, userCode);
-                    }
-                }
-                redisTemplate.delete(key);
-                log.debug("Cleared like requests for post: {}", postCode);
-            }
-        }
-
-        keys = redisTemplate.keys(DELETE_LIKE_PREFIX + "*");
-        if (keys != null) {
-            log.debug("Found {} unlike requests to process", keys.size());
-
-            for (String key : keys) {
-                int postCode = Integer.parseInt(key.substring(DELETE_LIKE_PREFIX.length()));
-                Set<String> userCodes = redisTemplate.opsForSet().members(key);
-
-                if (userCodes != null) {
-                    log.debug("Processing {} unlikes for post: {}", userCodes.size(), postCode);
-                    for (String userCode : userCodes) {
-                        PostLike postLike = PostLike.builder()
-                            .id(new PostLikeId(userCode, postCode))
-                            .build();
-                        postLikeRepository.delete(postLike);
-                        log.debug("Deleted like for post: {} by user: {}", postCode, userCode);
-                    }
-                }
-                redisTemplate.delete(key);
-                log.debug("Cleared unlike requests for post: {}", postCode);
-            }
-        }
-
-        log.debug("Completed likes synchronization to database");
+    @SuppressWarnings("unchecked")
+    private List<Long> executeToggle(List<String> keys, String userCode, boolean like, String dbLiked, String dbLikeCount,
+                                     String generation) {
+        return (List<Long>) redisTemplate.execute(TOGGLE_LIKE_SCRIPT, keys,
+            userCode, like ? "1" : "0", String.valueOf(CACHE_TTL.toSeconds()), dbLiked, dbLikeCount, generation);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,225 @@
+package com.collabit.community.service;
+
+import static com.collabit.community.service.LikeService.CREATE_LIKE_PREFIX;
+import static com.collabit.community.service.LikeService.CREATE_LIKE_SYNC_PREFIX;
+import static com.collabit.community.service.LikeService.DELETE_LIKE_PREFIX;
+import static com.collabit.community.service.LikeService.DELETE_LIKE_SYNC_PREFIX;
+import static com.collabit.community.service.LikeService.LIKE_COUNT_PREFIX;
+import static com.collabit.community.service.LikeService.LIKE_GEN_PREFIX;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+// Redis에 쌓인 좋아요/취소를 MySQL post_like 테이블에 반영
+// 1. 여러 서버 중 Redis lock을 잡은 한 곳에서만 실행
+// 2. SCAN으로 반영 대기 key를 찾고, 게시글별 like::/cancel:: set을 like_sync::/cancel_sync::로 원자적으로 옮김
+// 3. INSERT IGNORE / DELETE를 여러 행씩 묶어 실행하고 post.like_count를 다시 집계
+// 4. *_sync:: key와 반영 중에 채워진 likeCount:: 캐시를 삭제하고 like_gen:: 증가 (finish_like_sync.lua)
+//    lock을 아직 가지고 있을 때만 삭제하고, lock이 만료되었으면 이번 실행을 중단 (남은 key는 lock을 가진 서버가 다시 반영)
+// 중간에 중단되면 *_sync:: key가 남고 다음 실행에서 다시 반영 (INSERT IGNORE, DELETE 모두 여러 번 실행해도 결과가 같음)
+@Slf4j
+@Service
+public class LikeSyncService {
+
+    private static final String LOCK_KEY = "like_sync_lock";
+    private static final Duration GENERATION_TTL = Duration.ofDays(1);
+    private static final RedisScript<Long> MOVE_SCRIPT =
+        RedisScript.of(new ClassPathResource("redis/move_like_sync.lua"), Long.class);
+    private static final RedisScript<Long> FINISH_SCRIPT =
+        RedisScript.of(new ClassPathResource("redis/finish_like_sync.lua"), Long.class);
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT =
+        RedisScript.of(new ClassPathResource("redis/release_lock.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final Duration lockTtl;
+
+    private final Timer syncTimer;
+    private final Counter insertedCounter;
+    private final Counter deletedCounter;
+    private final AtomicLong backlogPosts = new AtomicLong();
+    private final AtomicLong backlogRows = new AtomicLong();
+
+    public LikeSyncService(StringRedisTemplate redisTemplate, JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                           @Value("${community.like.sync.batch-size:500}") int batchSize,
+                           @Value("${community.like.sync.lock-ttl-ms:600000}") long lockTtlMs) {
+        this.redisTemplate = redisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.lockTtl = Duration.ofMillis(lockTtlMs);
+        this.syncTimer = Timer.builder("community.like.sync")
+            .description("좋아요 DB 반영 1회 수행 시간")
+            .register(meterRegistry);
+        this.insertedCounter = Counter.builder("community.like.sync.rows")
+            .tag("type", "insert")
+            .description("DB에 반영한 좋아요 수")
+            .register(meterRegistry);
+        this.deletedCounter = Counter.builder("community.like.sync.rows")
+            .tag("type", "delete")
+            .description("DB에 반영한 좋아요 취소 수")
+            .register(meterRegistry);
+        Gauge.builder("community.like.sync.backlog.posts", backlogPosts, AtomicLong::get)
+            .description("마지막 반영 시작 시점의 반영 대기 게시글 수")
+            .register(meterRegistry);
+        Gauge.builder("community.like.sync.backlog.rows", backlogRows, AtomicLong::get)
+            .description("마지막 반영에서 처리한 좋아요/취소 수")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${community.like.sync.interval-ms:3000000}")
+    public void syncLikesToDb() {
+        String token = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, lockTtl);
+        if (!Boolean.TRUE.equals(locked)) {
+            log.debug("Like synchronization is running on another node");
+            return;
+        }
+        try {
+            syncTimer.record(() -> sync(token));
+        } catch (Exception e) {
+            log.error("Failed to synchronize likes to database", e);
+        } finally {
+            redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(LOCK_KEY), token);
+        }
+    }
+
+    private void sync(String token) {
+        Set<Integer> postCodes = scanPostCodes();
+        backlogPosts.set(postCodes.size());
+        log.debug("Found {} posts with pending likes", postCodes.size());
+
+        Batch batch = new Batch();
+        long rows = 0;
+        for (int postCode : postCodes) {
+            List<String> keys = List.of(CREATE_LIKE_PREFIX + postCode, DELETE_LIKE_PREFIX + postCode,
+                CREATE_LIKE_SYNC_PREFIX + postCode, DELETE_LIKE_SYNC_PREFIX + postCode);
+            // 이전 반영이 중단되어 *_sync:: key가 남아있으면 그것부터 반영하고, 새로 쌓인 요청은 다음 실행에서 반영
+            redisTemplate.execute(MOVE_SCRIPT, keys);
+
+            Set<String> likes = redisTemplate.opsForSet().members(CREATE_LIKE_SYNC_PREFIX + postCode);
+            Set<String> cancels = redisTemplate.opsForSet().members(DELETE_LIKE_SYNC_PREFIX + postCode);
+            if (likes != null) likes.forEach(userCode -> batch.inserts.add(new Object[]{userCode, postCode}));
+            if (cancels != null) cancels.forEach(userCode -> batch.deletes.add(new Object[]{userCode, postCode}));
+            batch.postCodes.add(postCode);
+            batch.finishKeys.add(CREATE_LIKE_SYNC_PREFIX + postCode);
+            batch.finishKeys.add(DELETE_LIKE_SYNC_PREFIX + postCode);
+            batch.finishKeys.add(LIKE_COUNT_PREFIX + postCode);
+            batch.finishKeys.add(LIKE_GEN_PREFIX + postCode);
+
+            if (batch.size() >= batchSize) {
+                rows += flush(batch, token);
+            }
+        }
+        rows += flush(batch, token);
+        backlogRows.set(rows);
+        log.debug("Completed likes synchronization to database: {} posts, {} rows", postCodes.size(), rows);
+    }
+
+    // KEYS 대신 SCAN으로 반영 대기/반영 중 key를 찾아 게시글 코드 수집
+    private Set<Integer> scanPostCodes() {
+        Set<Integer> postCodes = new LinkedHashSet<>();
+        for (String prefix : List.of(CREATE_LIKE_SYNC_PREFIX, DELETE_LIKE_SYNC_PREFIX, CREATE_LIKE_PREFIX, DELETE_LIKE_PREFIX)) {
+            ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(1000).build();
+            try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                while (cursor.hasNext()) {
+                    String key = cursor.next();
+                    postCodes.add(Integer.parseInt(key.substring(prefix.length())));
+                }
+            }
+        }
+        return postCodes;
+    }
+
+    // DB 반영이 끝난 뒤에만 *_sync:: key 삭제
+    // like_count는 증감 대신 post_like 행 수로 다시 집계 (INSERT IGNORE로 무시된 행이나 중단 후 재실행에도 정확)
+    private long flush(Batch batch, String token) {
+        for (List<Object[]> chunk : chunks(batch.inserts)) {
+            jdbcTemplate.update("INSERT IGNORE INTO post_like (user_code, post_code) VALUES " + placeholders(chunk.size()),
+                flatten(chunk));
+        }
+        for (List<Object[]> chunk : chunks(batch.deletes)) {
+            jdbcTemplate.update("DELETE FROM post_like WHERE (user_code, post_code) IN (" + placeholders(chunk.size()) + ")",
+                flatten(chunk));
+        }
+        for (int i = 0; i < batch.postCodes.size(); i += batchSize) {
+            List<Integer> chunk = batch.postCodes.subList(i, Math.min(i + batchSize, batch.postCodes.size()));
+            jdbcTemplate.update("UPDATE post p SET p.like_count = (SELECT COUNT(*) FROM post_like pl WHERE pl.post_code = p.code) " +
+                "WHERE p.code IN (" + String.join(",", Collections.nCopies(chunk.size(), "?")) + ")", chunk.toArray());
+        }
+        if (!batch.finishKeys.isEmpty()) {
+            List<String> keys = new ArrayList<>(batch.finishKeys.size() + 1);
+            keys.add(LOCK_KEY);
+            keys.addAll(batch.finishKeys);
+            Long finished = redisTemplate.execute(FINISH_SCRIPT, keys, String.valueOf(GENERATION_TTL.toSeconds()), token);
+            if (finished == null || finished < 0) {
+                throw new IllegalStateException("Like synchronization lock expired before finishing");
+            }
+        }
+
+        insertedCounter.increment(batch.inserts.size());
+        deletedCounter.increment(batch.deletes.size());
+        long rows = batch.size();
+        batch.clear();
+        return rows;
+    }
+
+    private List<List<Object[]>> chunks(List<Object[]> rows) {
+        List<List<Object[]>> chunks = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i += batchSize) {
+            chunks.add(rows.subList(i, Math.min(i + batchSize, rows.size())));
+        }
+        return chunks;
+    }
+
+    private static String placeholders(int rows) {
+        return String.join(",", Collections.nCopies(rows, "(?, ?)"));
+    }
+
+    private static Object[] flatten(List<Object[]> rows) {
+        Object[] args = new Object[rows.size() * 2];
+        for (int i = 0; i < rows.size(); i++) {
+            args[i * 2] = rows.get(i)[0];
+            args[i * 2 + 1] = rows.get(i)[1];
+        }
+        return args;
+    }
+
+    private static final class Batch {
+        private final List<Object[]> inserts = new ArrayList<>();
+        private final List<Object[]> deletes = new ArrayList<>();
+        private final List<Integer> postCodes = new ArrayList<>();
+        private final List<String> finishKeys = new ArrayList<>();
+
+        private int size() {
+            return inserts.size() + deletes.size();
+        }
+
+        private void clear() {
+            inserts.clear();
+            deletes.clear();
+            postCodes.clear();
+            finishKeys.clear();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.collabit.community.service;
+
+import com.collabit.community.repository.PostRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+// post.comment_count / like_count를 comment, post_like 행 수로 다시 집계
+// 평소에는 CommentService, LikeSyncService가 갱신하고, 누락된 갱신이나 직접 수정된 데이터를 주기적으로 바로잡음
+// 서버 시작 후 첫 실행에서 집계 컬럼이 추가되기 전의 게시글도 채움
+@Slf4j
+@Service
+public class PostCounterReconciler {
+
+    private static final String LOCK_KEY = "post_counter_reconcile_lock";
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT =
+        RedisScript.of(new ClassPathResource("redis/release_lock.lua"), Long.class);
+
+    private final PostRepository postRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final int chunkSize;
+    private final Duration lockTtl;
+
+    public PostCounterReconciler(PostRepository postRepository, StringRedisTemplate redisTemplate,
+                                 @Value("${community.post-counter.reconcile.chunk-size:1000}") int chunkSize,
+                                 @Value("${community.post-counter.reconcile.lock-ttl-ms:600000}") long lockTtlMs) {
+        this.postRepository = postRepository;
+        this.redisTemplate = redisTemplate;
+        this.chunkSize = chunkSize;
+        this.lockTtl = Duration.ofMillis(lockTtlMs);
+    }
+
+    @Scheduled(initialDelayString = "${community.post-counter.reconcile.initial-delay-ms:60000}",
+        fixedDelayString = "${community.post-counter.reconcile.interval-ms:86400000}")
+    public void reconcile() {
+        String token = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, lockTtl);
+        if (!Boolean.TRUE.equals(locked)) {
+            log.debug("Post counter reconciliation is running on another node");
+            return;
+        }
+        try {
+            int maxCode = postRepository.findMaxCode().orElse(0);
+            // 게시글 코드 범위별로 나눠 한 번에 잠기는 행 수를 제한
+            for (int fromCode = 1; fromCode <= maxCode; fromCode += chunkSize) {
+                postRepository.reconcileCounts(fromCode, fromCode + chunkSize - 1);
+            }
+            log.debug("Completed post counter reconciliation up to post: {}", maxCode);
+        } catch (Exception e) {
+            log.error("Failed to reconcile post counters", e);
+        } finally {
+            redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(LOCK_KEY), token);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.collabit.community.service;
+
+import com.collabit.community.domain.dto.Author;
+import com.collabit.community.domain.dto.GetPostResponseDTO;
+import com.collabit.community.domain.dto.PostImageUrl;
+import com.collabit.community.domain.entity.Post;
+import com.collabit.community.repository.ImageRepository;
+import com.collabit.community.repository.PostLikeRepository;
+import com.collabit.user.domain.entity.User;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+// 게시글 목록 응답 DTO 생성
+// 게시글 수와 관계없이 페이지당 이미지 1회, Redis MGET 1회 조회
+// 댓글 수와 캐시가 없는 게시글의 좋아요 수는 post의 집계 컬럼 사용 (좋아요 여부만 캐시가 없을 때 DB에서 1회 추가 조회)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostFeedAssembler {
+
+    private static final String ANONYMOUS_USER = "anonymousUser";
+    // LikeService와 같은 key
+    private static final String LIKE_COUNT_PREFIX = "likeCount::";
+    private static final String IS_LIKED_PREFIX = "isLiked::";
+
+    private final ImageRepository imageRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    // 작성자(post.user)는 게시글 조회 시 함께 조회되어 있어야 함 (PostRepository @EntityGraph)
+    public List<GetPostResponseDTO> assemble(List<Post> posts, String userCode) {
+        if (posts.isEmpty()) return List.of();
+        List<Integer> postCodes = posts.stream().map(Post::getCode).toList();
+        boolean loggedIn = userCode != null && !ANONYMOUS_USER.equals(userCode);
+
+        Map<Integer, List<String>> images = new HashMap<>();
+        for (PostImageUrl image : imageRepository.findUrlsByPostCodes(postCodes)) {
+            images.computeIfAbsent(image.postCode(), code -> new ArrayList<>()).add(image.url());
+        }
+        LikeStates likes = resolveLikes(postCodes, loggedIn ? userCode : null);
+
+        return posts.stream()
+            .map(post -> {
+                User author = post.getUser();
+                return GetPostResponseDTO.builder()
+                    .code(post.getCode())
+                    .author(Author.builder()
+                        .nickname(author.getNickname())
+                        .profileImage(author.getProfileImage())
+                        .githubId(author.getGithubId())
+                        .build())
+                    .content(post.getContent())
+                    .commentCount(post.getCommentCount())
+                    .createdAt(post.getCreatedAt())
+                    .updatedAt(post.getUpdatedAt())
+                    .images(images.getOrDefault(post.getCode(), List.of()))
+                    .likeCount(likes.counts().getOrDefault(post.getCode(), post.getLikeCount()))
+                    .liked(likes.liked().contains(post.getCode()))
+                    .build();
+            })
+            .toList();
+    }
+
+    // 좋아요 수와 좋아요 여부를 MGET 한 번으로 조회, 좋아요 수가 캐시에 없으면 post.likeCount 사용
+    private LikeStates resolveLikes(List<Integer> postCodes, String userCode) {
+        List<String> keys = new ArrayList<>(postCodes.size() * 2);
+        postCodes.forEach(code -> keys.add(LIKE_COUNT_PREFIX + code));
+        if (userCode != null) postCodes.forEach(code -> keys.add(IS_LIKED_PREFIX + userCode + "likes" + code));
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+
+        Map<Integer, Integer> counts = new HashMap<>();
+        Set<Integer> liked = new HashSet<>();
+        List<Integer> missingLiked = new ArrayList<>();
+        for (int i = 0; i < postCodes.size(); i++) {
+            int postCode = postCodes.get(i);
+            String count = values == null ? null : values.get(i);
+            if (count != null) counts.put(postCode, Integer.parseInt(count));
+
+            if (userCode == null) continue;
+            String isLiked = values == null ? null : values.get(postCodes.size() + i);
+            if (isLiked == null) missingLiked.add(postCode);
+            else if (Boolean.parseBoolean(isLiked)) liked.add(postCode);
+        }
+
+        if (!missingLiked.isEmpty()) {
+            liked.addAll(postLikeRepository.findLikedPostCodes(userCode, missingLiked));
+        }
+        return new LikeStates(counts, liked);
+    }
+
+    private record LikeStates(Map<Integer, Integer> counts, Set<Integer> liked) {
+    }
+}
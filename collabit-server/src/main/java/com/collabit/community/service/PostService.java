@@ -1,9 +1,7 @@
 package com.collabit.community.service;
 
-import com.collabit.community.domain.dto.Author;
 import com.collabit.community.exception.ImageCountExceededException;
 import com.collabit.community.exception.PostNotFoundException;
-import com.collabit.community.repository.CommentRepository;
 import com.collabit.global.common.ErrorCode;
 import com.collabit.global.common.PageResponseDTO;
 import com.collabit.global.error.exception.BusinessException;
@@ -18,22 +16,21 @@ import com.collabit.community.repository.ImageRepository;
 import com.collabit.community.repository.PostRepository;
 import com.collabit.user.domain.entity.User;
 import com.collabit.user.exception.UserDifferentException;
-import com.collabit.user.exception.UserNotFoundException;
 import com.collabit.user.repository.UserRepository;
 import jakarta.transaction.Transactional;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -44,10 +41,11 @@ public class PostService {
     private final PostRepository postRepository;
     private final ImageRepository imageRepository;
     private final UserRepository userRepository;
-    private final LikeCacheService likeCacheService;
+    private final PostFeedAssembler postFeedAssembler;
+    private final PostTrendingService postTrendingService;
 
     private static final String DIR_NAME = "posts";
-    private final CommentRepository commentRepository;
+    private static final int RECOMMEND_SIZE = 5;
 
     @Transactional
     public CreatePostResponseDTO createPost(String userCode, CreatePostRequestDTO requestDTO) {
@@ -82,6 +80,8 @@ public class PostService {
                 .forEach(imageRepository::save);
         }
 
+        postTrendingService.postCreated(savedPost.getCode());
+
         CreatePostResponseDTO responseDTO = CreatePostResponseDTO.builder()
             .code(savedPost.getCode()).build();
         return responseDTO;
@@ -97,9 +97,7 @@ public class PostService {
             pageNumber + 1,
             postPage.getTotalPages());
 
-        List<GetPostResponseDTO> content = postPage.getContent().stream()
-            .map(post -> buildDTO(post, userCode))
-            .collect(Collectors.toList());
+        List<GetPostResponseDTO> content = postFeedAssembler.assemble(postPage.getContent(), userCode);
 
         return PageResponseDTO.<GetPostResponseDTO>builder()
             .content(content)
@@ -199,56 +197,41 @@ public class PostService {
         }
 
         postRepository.deleteByCode(postCode);
+        postTrendingService.remove(postCode);
         log.debug("Post {} successfully deleted", postCode);
     }
 
     public GetPostResponseDTO buildDTO(Post post, String userCode) {
         log.debug("Building DTO for post: {}", post.getCode());
-        System.out.println("유저코드"+userCode);
-        if (userCode != "anonymousUser") {
-            userRepository.findByCode(userCode).orElseThrow(() -> {
-                log.debug("could not find user with code {}", userCode);
-                return new UserNotFoundException();
-            });
-        }
-
-        List<Image> images = post.getImages();
-        List<String> imageUrls = images.stream()
-            .map(Image::getUrl)
-            .collect(Collectors.toList());
-
-        int likeCount = likeCacheService.getLikeCount((post.getCode()));
-        boolean isLiked = userCode != null ? likeCacheService.getIsLiked(userCode, post.getCode()) : false;
-
-        User author = post.getUser();
-
-        return GetPostResponseDTO.builder()
-            .code(post.getCode())
-            .author(Author.builder()
-                .nickname(author.getNickname())
-                .profileImage(author.getProfileImage())
-                .githubId(author.getGithubId())
-                .build())
-            .content(post.getContent())
-            .commentCount(commentRepository.findByPostCode(post.getCode()).size())
-            .createdAt(post.getCreatedAt())
-            .updatedAt(post.getUpdatedAt())
-            .images(imageUrls)
-            .likeCount(likeCount)
-            .liked(isLiked)
-            .build();
+        return postFeedAssembler.assemble(List.of(post), userCode).get(0);
     }
 
 
     public List<GetPostResponseDTO> recommendPost(String userCode) {
         log.debug("Finding recommended posts");
 
-        Pageable pageable = PageRequest.of(0, 5);
-        Page<Post> topPosts = postRepository.findTop5ByOrderByLikeCountAndCreatedAt(pageable);
+        // 인기 게시글 순위 순서대로 조회, 순위가 부족하면 좋아요 수 순으로 채움
+        List<Integer> trendingCodes = postTrendingService.getTopPostCodes(RECOMMEND_SIZE);
+        Map<Integer, Post> trendingPosts = new HashMap<>();
+        if (!trendingCodes.isEmpty()) {
+            postRepository.findByCodeIn(trendingCodes).forEach(post -> trendingPosts.put(post.getCode(), post));
+        }
+
+        List<Post> topPosts = new ArrayList<>();
+        for (int code : trendingCodes) {
+            Post post = trendingPosts.get(code);
+            if (post != null) topPosts.add(post);
+            else postTrendingService.remove(code); // 삭제된 게시글
+        }
+        if (topPosts.size() < RECOMMEND_SIZE) {
+            log.debug("Filling recommended posts by like count: {} trending posts", topPosts.size());
+            for (Post post : postRepository.findTop5ByOrderByLikeCountDescCreatedAtDesc()) {
+                if (topPosts.size() == RECOMMEND_SIZE) break;
+                if (!trendingPosts.containsKey(post.getCode())) topPosts.add(post);
+            }
+        }
 
-        return topPosts.getContent().stream()
-            .map(post -> buildDTO(post, userCode))
-            .collect(Collectors.toList());
+        return postFeedAssembler.assemble(topPosts, userCode);
     }
 
     public List<GetPostResponseDTO> latestPost(String userCode) {
@@ -257,9 +240,7 @@ public class PostService {
         Pageable pageable = PageRequest.of(0, 5);
         Page<Post> latestPosts = postRepository.findAll(pageable);
 
-        return latestPosts.getContent().stream()
-            .map(post -> buildDTO(post, userCode))
-            .collect(Collectors.toList());
+        return postFeedAssembler.assemble(latestPosts.getContent(), userCode);
     }
 
     public PageResponseDTO<GetPostResponseDTO> myPost(String userCode, int pageNumber) {
@@ -273,9 +254,7 @@ public class PostService {
             pageNumber + 1,
             postPage.getTotalPages());
 
-        List<GetPostResponseDTO> content = postPage.getContent().stream()
-            .map(post -> buildDTO(post, userCode))
-            .collect(Collectors.toList());
+        List<GetPostResponseDTO> content = postFeedAssembler.assemble(postPage.getContent(), userCode);
 
         return PageResponseDTO.<GetPostResponseDTO>builder()
             .content(content)
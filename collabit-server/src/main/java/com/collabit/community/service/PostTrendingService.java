@@ -0,0 +1,133 @@
+package com.collabit.community.service;
+
+import com.collabit.community.domain.dto.PostTrendingSeed;
+import com.collabit.community.repository.PostRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+// 인기 게시글 순위 (Redis sorted set)
+// 좋아요, 댓글, 게시글 작성 시 가중치를 반감기 기준으로 감쇠시켜 더하고, 추천 게시글은 ZREVRANGE로 조회
+// 점수는 기준 시각(post_trending_epoch) 대비 2^(경과/반감기)로 커지므로 주기적으로 기준 시각을 현재로 옮김
+@Slf4j
+@Service
+public class PostTrendingService {
+
+    private static final String TRENDING_KEY = "post_trending";
+    private static final String EPOCH_KEY = "post_trending_epoch";
+    private static final String MIN_SCORE = "0.01"; // 이 점수 이하로 감쇠한 게시글은 기준 시각을 옮길 때 제거
+    private static final RedisScript<Void> INCREMENT_SCRIPT =
+        RedisScript.of(new ClassPathResource("redis/trending_incr.lua"));
+    private static final RedisScript<Long> REBASE_SCRIPT =
+        RedisScript.of(new ClassPathResource("redis/rebase_trending.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final PostRepository postRepository;
+    private final long halfLifeSeconds;
+    private final int maxSize;
+    private final Duration seedPeriod;
+    private final double postWeight;
+    private final double likeWeight;
+    private final double commentWeight;
+
+    public PostTrendingService(StringRedisTemplate redisTemplate, PostRepository postRepository,
+                               @Value("${community.trending.half-life-hours:24}") long halfLifeHours,
+                               @Value("${community.trending.max-size:1000}") int maxSize,
+                               @Value("${community.trending.seed-days:7}") long seedDays,
+                               @Value("${community.trending.weight.post:1}") double postWeight,
+                               @Value("${community.trending.weight.like:1}") double likeWeight,
+                               @Value("${community.trending.weight.comment:2}") double commentWeight) {
+        this.redisTemplate = redisTemplate;
+        this.postRepository = postRepository;
+        this.halfLifeSeconds = Duration.ofHours(halfLifeHours).toSeconds();
+        this.maxSize = maxSize;
+        this.seedPeriod = Duration.ofDays(seedDays);
+        this.postWeight = postWeight;
+        this.likeWeight = likeWeight;
+        this.commentWeight = commentWeight;
+    }
+
+    public void postCreated(int postCode) {
+        increment(postCode, postWeight);
+    }
+
+    public void liked(int postCode, boolean like) {
+        increment(postCode, like ? likeWeight : -likeWeight);
+    }
+
+    public void commented(int postCode) {
+        increment(postCode, commentWeight);
+    }
+
+    public void remove(int postCode) {
+        redisTemplate.opsForZSet().remove(TRENDING_KEY, String.valueOf(postCode));
+    }
+
+    // 점수가 높은 순서로 게시글 코드 조회 (O(log n + limit))
+    public List<Integer> getTopPostCodes(int limit) {
+        Set<String> members = redisTemplate.opsForZSet().reverseRange(TRENDING_KEY, 0, limit - 1);
+        if (members == null) return List.of();
+        return members.stream().map(Integer::parseInt).toList();
+    }
+
+    // 순위 갱신이 실패해도 좋아요/댓글 요청은 성공으로 처리 (다음 기준 시각 이동 때 DB 값으로 다시 채워질 수 있음)
+    private void increment(int postCode, double weight) {
+        try {
+            redisTemplate.execute(INCREMENT_SCRIPT, List.of(TRENDING_KEY, EPOCH_KEY), String.valueOf(postCode),
+                String.valueOf(weight), String.valueOf(Instant.now().getEpochSecond()),
+                String.valueOf(halfLifeSeconds), String.valueOf(maxSize));
+        } catch (Exception e) {
+            log.warn("Failed to update trending score for post: {}", postCode, e);
+        }
+    }
+
+    // 스크립트 안에서 기준 시각과 점수를 함께 바꾸므로 여러 서버에서 실행되어도 결과가 같음
+    @Scheduled(fixedDelayString = "${community.trending.rebase-interval-ms:3600000}")
+    public void rebase() {
+        try {
+            Long size = redisTemplate.execute(REBASE_SCRIPT, List.of(TRENDING_KEY, EPOCH_KEY),
+                String.valueOf(Instant.now().getEpochSecond()), String.valueOf(halfLifeSeconds), MIN_SCORE);
+            log.debug("Rebased trending scores: {} posts", size);
+            if (size == null || size == 0) {
+                seed();
+            }
+        } catch (Exception e) {
+            log.error("Failed to rebase trending scores", e);
+        }
+    }
+
+    // Redis 재시작 등으로 순위가 비어 있으면 최근 게시글의 좋아요/댓글 수로 채움 (작성 시각에 이벤트가 있었던 것으로 계산)
+    private void seed() {
+        long now = Instant.now().getEpochSecond();
+        redisTemplate.opsForValue().setIfAbsent(EPOCH_KEY, String.valueOf(now));
+        String epochValue = redisTemplate.opsForValue().get(EPOCH_KEY);
+        long epoch = epochValue == null ? now : Long.parseLong(epochValue);
+
+        List<PostTrendingSeed> posts = postRepository.findTrendingSeeds(LocalDateTime.now().minus(seedPeriod));
+        Set<TypedTuple<String>> tuples = new HashSet<>();
+        for (PostTrendingSeed post : posts) {
+            long createdAt = post.createdAt().atZone(ZoneId.systemDefault()).toEpochSecond();
+            double weight = postWeight + likeWeight * post.likeCount() + commentWeight * post.commentCount();
+            double score = weight * Math.pow(2, (double) (createdAt - epoch) / halfLifeSeconds);
+            tuples.add(new DefaultTypedTuple<>(String.valueOf(post.code()), score));
+        }
+        if (tuples.isEmpty()) return;
+        // 그 사이 이벤트로 추가된 게시글은 유지
+        redisTemplate.opsForZSet().addIfAbsent(TRENDING_KEY, tuples);
+        redisTemplate.opsForZSet().removeRange(TRENDING_KEY, 0, -(maxSize + 1));
+        log.info("Seeded trending scores from database: {} posts", tuples.size());
+    }
+}
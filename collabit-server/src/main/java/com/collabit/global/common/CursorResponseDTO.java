@@ -0,0 +1,18 @@
+package com.collabit.global.common;
+
+import lombok.*;
+
+import java.util.List;
+
+@Builder
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorResponseDTO<T> {
+    List<T> content; //현재 페이지의 데이터 배열
+    int size; //요청한 페이지 크기
+    String nextCursor; //다음 페이지 조회에 사용할 커서 (마지막 페이지면 null)
+    boolean hasNext; //다음 페이지 존재 여부
+}
@@ -1,6 +1,5 @@
 package com.collabit.global.config;
 
-import com.collabit.chat.redis.RedisSubscriber;
 import com.collabit.project.redis.ProjectRedisSubscriber;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
@@ -9,7 +8,6 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
@@ -55,18 +53,6 @@ public class RedisConfig {
 		return template;
 	}
 
-	// 채팅 관련 Redis 설정
-	//Redis 메시지 수신을 위한 채널 토픽 설정
-	@Bean
-	public ChannelTopic channelTopic() {
-		return new ChannelTopic("chat");
-	}
-
-	@Bean
-	public MessageListenerAdapter chatMessageListenerAdapter(RedisSubscriber subscriber) {
-		return new MessageListenerAdapter(subscriber, "onMessage");
-	}
-
 	// 프로젝트 관련 Redis Subscriber 설정
 	@Bean
 	public MessageListenerAdapter projectListenerAdapter(ProjectRedisSubscriber subscriber) {
@@ -77,14 +63,11 @@ public class RedisConfig {
 	@Bean
 	public RedisMessageListenerContainer redisMessageListenerContainer(
 			RedisConnectionFactory connectionFactory,
-			MessageListenerAdapter chatMessageListenerAdapter,
-			MessageListenerAdapter projectListenerAdapter,
-			ChannelTopic channelTopic) {
+			MessageListenerAdapter projectListenerAdapter) {
 		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
 		container.setConnectionFactory(connectionFactory);
 
-		// 채팅 메시지 리스너 등록
-		container.addMessageListener(chatMessageListenerAdapter, channelTopic);
+		// 채팅 메시지 리스너는 ChatRoomRelay가 로컬 구독자가 있는 채팅방 채널만 동적으로 등록
 
 		// 프로젝트 키 이벤트 리스너 등록
 		container.addMessageListener(projectListenerAdapter, new PatternTopic("__keyevent@*__:*"));
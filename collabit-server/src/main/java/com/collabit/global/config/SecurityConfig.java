@@ -60,6 +60,7 @@ public class SecurityConfig {
                 auth.requestMatchers("/api/post/**").permitAll();
                 auth.requestMatchers("/v3/api-docs/**","/swagger-ui/**","/swagger-ui.html").permitAll();
                 auth.requestMatchers("/api/portfolio/share/**").permitAll();
+                auth.requestMatchers("/ws/**").permitAll(); // STOMP CONNECT에서 access token 검증
                 auth.anyRequest().authenticated();
             })
             .userDetailsService(customUserDetailsService)
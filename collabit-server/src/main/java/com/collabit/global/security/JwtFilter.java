@@ -63,11 +63,7 @@ public class JwtFilter extends OncePerRequestFilter {
                 String newAccessToken = tokenProvider.createNewAccessToken(refreshToken);
 
                 // 새로운 액세스 토큰을 쿠키에 설정
-                Cookie newAccessTokenCookie = new Cookie("accessToken", newAccessToken);
-                newAccessTokenCookie.setHttpOnly(true);
-                newAccessTokenCookie.setPath("/");
-                // newAccessTokenCookie.setSecure(true); // HTTPS 사용시 주석 해제
-                response.addCookie(newAccessTokenCookie);
+                response.addCookie(createAccessTokenCookie(newAccessToken));
 
                 // 새 토큰으로 인증 처리
                 Authentication authentication = tokenProvider.getAuthentication(newAccessToken);
@@ -95,6 +91,21 @@ public class JwtFilter extends OncePerRequestFilter {
     }
 
 
+    // 리프레시 토큰으로 새로 발급한 액세스 토큰 쿠키 (WebSocket handshake에서도 사용)
+    public static Cookie createAccessTokenCookie(String accessToken) {
+        Cookie accessTokenCookie = new Cookie("accessToken", accessToken);
+        accessTokenCookie.setHttpOnly(true);
+        accessTokenCookie.setPath("/");
+        // accessTokenCookie.setSecure(true); // HTTPS 사용시 주석 해제
+        return accessTokenCookie;
+    }
+
+    // WebSocket handshake는 JwtHandshakeInterceptor에서 토큰을 갱신하고 STOMP CONNECT 단계에서 검증하므로 필터 생략
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/ws/");
+    }
+
     // Request Header 에서 JWT 토큰정보 추출
     private String resolveToken(HttpServletRequest request,String tokenType) {
         // 쿠키에서 accessToken 체크
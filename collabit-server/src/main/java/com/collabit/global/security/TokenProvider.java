@@ -142,16 +142,8 @@ public class TokenProvider {
         // 토큰 복호화
         Claims claims = parseClaims(accessToken);
 
-        if(claims.get(AUTHORITIES_KEY) == null) {
-            log.debug("No claims found for access token");
-            throw new InvalidTokenException();
-        }
-
         // claims 에서 권한 정보 가져오기
-        Collection<? extends GrantedAuthority> authorities =
-                Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))
-                        .map(SimpleGrantedAuthority::new)
-                        .collect(Collectors.toList());
+        Collection<? extends GrantedAuthority> authorities = getAuthorities(claims);
 
         // UserDetails 객체 생성 후 Authentication 리턴
         // principal: 사용자 정보(code(pk), password, authorities 등) 포함
@@ -165,6 +157,28 @@ public class TokenProvider {
 
     }
 
+    // DB 조회 없이 토큰의 claims만으로 인증 정보 생성 (WebSocket 연결 등 userCode만 필요한 경우)
+    public Authentication getAuthenticationFromClaims(String accessToken) {
+        Claims claims = parseClaims(accessToken);
+        Collection<? extends GrantedAuthority> authorities = getAuthorities(claims);
+
+        CustomUserDetails principal = new CustomUserDetails(
+                claims.getSubject(), null, null, null, null, null, authorities);
+        return new UsernamePasswordAuthenticationToken(principal, "", authorities);
+    }
+
+    // claims 에 저장된 권한 정보를 GrantedAuthority 목록으로 변환
+    private Collection<? extends GrantedAuthority> getAuthorities(Claims claims) {
+        if(claims.get(AUTHORITIES_KEY) == null) {
+            log.debug("No claims found for access token");
+            throw new InvalidTokenException();
+        }
+
+        return Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
+    }
+
     public boolean validateToken(String token) {
         try {
             Jwts.parserBuilder()
@@ -1,6 +1,8 @@
 package com.collabit.mypage.service;
 
 import com.collabit.auth.service.AuthService;
+import com.collabit.chat.repository.ChatRoomRepository;
+import com.collabit.chat.service.ChatRoomMembershipCache;
 import com.collabit.global.common.ErrorCode;
 import com.collabit.global.error.exception.BusinessException;
 import com.collabit.global.service.S3Service;
@@ -28,6 +30,8 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class MypageService {
     private final UserRepository userRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
     private final AuthService authService;
     private final PasswordEncoder passwordEncoder;
     private final RedisTemplate<String, Object> redisTemplate;
@@ -127,6 +131,7 @@ public class MypageService {
         }
 
         userOptional.get().resetFields();
+        refreshChatRoomProfile(userOptional.get());
         log.debug("회원 정보 리셋 완료 - userCode: {}", userCode);
 
         // 강제 logout 처리(access, refresh tokne관련 cookie삭제)
@@ -134,6 +139,13 @@ public class MypageService {
         log.debug("회원 탈퇴(강제로그아웃) 완료 - userCode: {}", userCode);
     }
 
+    // 채팅방 목록 요약에 저장된 닉네임/프로필 이미지 갱신
+    private void refreshChatRoomProfile(User user) {
+        chatRoomRepository.updateUser1Profile(user.getCode(), user.getNickname(), user.getProfileImage());
+        chatRoomRepository.updateUser2Profile(user.getCode(), user.getNickname(), user.getProfileImage());
+        chatRoomMembershipCache.updateNickname(user.getCode(), user.getNickname());
+    }
+
     private void removeAuthCookies(HttpServletResponse response) {
         Cookie accessTokenCookie = new Cookie("accessToken", null);
         Cookie refreshTokenCookie = new Cookie("refreshToken", null);
@@ -162,6 +174,7 @@ public class MypageService {
 
         User user = userOptional.get();
         user.updateNickname(newNickname); // Dirty Checking으로 자동 업데이트
+        refreshChatRoomProfile(user);
         log.debug("닉네임 변경 완료: {}", newNickname);
     }
 
@@ -185,6 +198,7 @@ public class MypageService {
 
         // DB에 프로필 이미지 업데이트
         user.updateProfileImage(newProfileImageUrl); // Dirty Checking으로 자동 업데이트
+        refreshChatRoomProfile(user);
 
         log.debug("프로필 사진 변경 완료: {}", newProfileImageUrl);
         return newProfileImageUrl;
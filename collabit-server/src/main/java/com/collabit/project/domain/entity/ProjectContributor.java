@@ -7,7 +7,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "project_contributor")
+@Table(name = "project_contributor", indexes = {
+        // 설문 접근 권한 확인용 (projectCode, githubId, projectInfoCode) 조회 인덱스
+        @Index(name = "idx_project_contributor_membership", columnList = "project_code, github_id, project_info_code")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
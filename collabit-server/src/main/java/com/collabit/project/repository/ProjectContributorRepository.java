@@ -24,6 +24,10 @@ public interface ProjectContributorRepository extends JpaRepository<ProjectContr
             @Param("projectCode") int projectCode,
             @Param("currentProjectInfoCode") int currentProjectInfoCode);
 
+    // 해당 githubId가 project_code가 같고 project_info_code가 현재 코드보다 작거나 같은 contributor인지 확인
+    boolean existsByIdProjectCodeAndIdGithubIdAndIdProjectInfoCodeLessThanEqual(
+            int projectCode, String githubId, int currentProjectInfoCode);
+
     // projectInfo 코드로 ProjectContributor 리스트 조회
     List<ProjectContributor> findByProjectInfoCode(int code);
 
@@ -0,0 +1,73 @@
+package com.collabit.survey.config;
+
+import com.collabit.survey.domain.entity.SurveyEssay;
+import com.collabit.survey.domain.entity.SurveyEssayMessage;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+// 기존 survey_essay 도큐먼트의 messages(콤마로 이어붙인 JSON 문자열)를 메시지 배열로 변환
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SurveyEssayMigration implements ApplicationRunner {
+
+    private static final String COLLECTION = "survey_essay";
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Document legacyFilter = new Document("messages", new Document("$type", "string"));
+        int migrated = 0;
+        int failed = 0;
+
+        for (Document essay : mongoTemplate.getCollection(COLLECTION).find(legacyFilter)) {
+            Object id = essay.get("_id");
+            try {
+                List<SurveyEssayMessage> messages = parseMessages(essay.getString("messages"));
+                mongoTemplate.updateFirst(
+                        Query.query(Criteria.where("_id").is(id)),
+                        new Update().set("messages", messages),
+                        SurveyEssay.class);
+                migrated++;
+            } catch (IOException e) {
+                log.error("주관식 설문 메시지 마이그레이션 실패 - id: {}", id, e);
+                failed++;
+            }
+        }
+
+        if (migrated > 0 || failed > 0) {
+            log.info("주관식 설문 메시지 마이그레이션 완료 - 성공: {}, 실패: {}", migrated, failed);
+        }
+    }
+
+    // 메시지 단위로 스트리밍 파싱 (전체 문자열을 DTO 트리로 한 번에 만들지 않음)
+    private List<SurveyEssayMessage> parseMessages(String raw) throws IOException {
+        List<SurveyEssayMessage> messages = new ArrayList<>();
+        try (JsonParser parser = objectMapper.getFactory().createParser("[" + raw + "]")) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("messages 형식이 올바르지 않습니다.");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                messages.add(parser.readValueAs(SurveyEssayMessage.class));
+            }
+        }
+        return messages;
+    }
+}
@@ -56,6 +56,18 @@ public class SurveyController {
         return ResponseEntity.ok(responseDTO);
     }
 
+    @GetMapping("/{surveyCode}/essay")
+    @Operation(summary="주관식 설문 대화 조회", description = "주관식 설문 대화 내용을 offset부터 size개만큼 조회하는 API입니다.")
+    public ResponseEntity<SurveyEssayResponseDTO> getEssayResponse(
+            @PathVariable int surveyCode,
+            @RequestParam(value = "offset", defaultValue = "0") int offset,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        String userCode = SecurityUtil.getCurrentUserCode();
+        SurveyEssayResponseDTO responseDTO = surveyService.getEssayResponse(userCode, surveyCode, offset, size);
+        if (responseDTO == null) return ResponseEntity.noContent().build();
+        return ResponseEntity.ok(responseDTO);
+    }
+
     @GetMapping("/{surveyCode}/verify")
     @Operation(summary="설문조사 상태 조회", description = "설문조사를 가능한 userCode인지 조회하는 API입니다.")
     public ResponseEntity<?> getSurveyStatus(@PathVariable int surveyCode) {
@@ -21,6 +21,6 @@ public class SurveyEssay {
     private String id;
     private int projectInfoCode;
     private String userCode;
-    private String messages;
+    private List<SurveyEssayMessage> messages; // [0]: system 프롬프트, [1]: 시작 메시지, [2~]: 실제 대화
     private LocalDateTime submittedAt;
 }
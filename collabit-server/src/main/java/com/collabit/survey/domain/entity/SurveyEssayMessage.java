@@ -0,0 +1,17 @@
+package com.collabit.survey.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 주관식 설문 대화 메시지 (SurveyEssay.messages 배열의 서브도큐먼트)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SurveyEssayMessage {
+    private String role;
+    private String content;
+    private String timestamp;
+}
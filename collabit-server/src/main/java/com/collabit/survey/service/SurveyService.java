@@ -16,9 +16,6 @@ import com.collabit.survey.repository.SurveyQuestionRepository;
 import com.collabit.user.domain.entity.User;
 import com.collabit.user.exception.UserNotFoundException;
 import com.collabit.user.repository.UserRepository;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.mongodb.core.MongoTemplate;
@@ -39,9 +36,11 @@ public class SurveyService {
     private final ProjectInfoRepository projectInfoRepository;
     private final ProjectContributorRepository projectContributorRepository;
     private final UserRepository userRepository;
-    private final ObjectMapper objectMapper;
     private final MongoTemplate mongoTemplate;
 
+    // messages[0]: system 프롬프트, messages[1]: 시작 메시지 -> 응답에서 제외
+    private static final int ESSAY_MESSAGE_OFFSET = 2;
+
     // 유저의 설문 리스트 가져오기
     public List<SurveyListResponseDTO> getSurveyList(String userCode) {
         User user = userRepository.findByCode(userCode).orElseThrow(() -> {
@@ -150,25 +149,43 @@ public class SurveyService {
 
     //주관식 설문 답변 조회하기
     public SurveyEssayResponseDTO getEssayResponse(String userCode, int projectInfoCode) {
-        SurveyEssay essay = getEssay(userCode, projectInfoCode);
-        System.out.println(essay);
+        return getEssayResponse(userCode, projectInfoCode, 0, Integer.MAX_VALUE);
+    }
 
-        if (essay == null) {
-            return null;
+    //주관식 설문 답변 페이지 단위 조회하기 (system 프롬프트와 시작 메시지는 DB에서 제외하고 가져옴)
+    public SurveyEssayResponseDTO getEssayResponse(String userCode, int projectInfoCode, int offset, int size) {
+        if (offset < 0 || size <= 0) {
+            throw new BusinessException(ErrorCode.METHOD_ARGUMENT_NOT_VALID);
         }
 
-        //메시지 string -> MessageDTO로 변환
-        List<SurveyEssayMessageDTO> messageList;
-        try {
-            String jsonArray = "[" + essay.getMessages() + "]";
-            messageList = objectMapper.readValue(jsonArray, new TypeReference<List<SurveyEssayMessageDTO>>() {});
+        Query query = essayQuery(userCode, projectInfoCode);
+        query.fields().slice("messages", ESSAY_MESSAGE_OFFSET + offset, size);
 
-        }catch (Exception e){
-                throw new SurveyMessageDecodingException();
+        SurveyEssay essay;
+        try {
+            essay = mongoTemplate.findOne(query, SurveyEssay.class);
+        } catch (RuntimeException e) {
+            log.error("주관식 설문 메시지 변환 실패 - projectInfoCode: {}, userCode: {}", projectInfoCode, userCode, e);
+            throw new SurveyMessageDecodingException();
+        }
+        log.debug("essay: {}", essay);
 
+        if (essay == null) {
+            return null;
         }
+
+        List<SurveyEssayMessageDTO> messageList = essay.getMessages() == null
+                ? Collections.emptyList()
+                : essay.getMessages().stream()
+                        .map(message -> SurveyEssayMessageDTO.builder()
+                                .role(message.getRole())
+                                .content(message.getContent())
+                                .timestamp(message.getTimestamp())
+                                .build())
+                        .toList();
+
         return SurveyEssayResponseDTO.builder()
-                .messages(messageList.subList(2, messageList.size()))
+                .messages(messageList)
                 .submittedAt(essay.getSubmittedAt())
                 .build();
     }
@@ -177,15 +194,22 @@ public class SurveyService {
         return surveyMultipleRepository.findByProjectInfoCodeAndUserCode(projectInfoCode, userCode);
     }
 
+    // 참여 여부/제출 시각 확인용 조회 (대화 내용은 불러오지 않음)
     public SurveyEssay getEssay(String userCode, int projectInfoCode) {
-        Query query = new Query();
-        query.addCriteria(Criteria.where("projectInfoCode").is(projectInfoCode)
-                .and("userCode").is(userCode));
+        Query query = essayQuery(userCode, projectInfoCode);
+        query.fields().exclude("messages");
 
         return mongoTemplate.findOne(query, SurveyEssay.class);
 
     }
 
+    private Query essayQuery(String userCode, int projectInfoCode) {
+        Query query = new Query();
+        query.addCriteria(Criteria.where("projectInfoCode").is(projectInfoCode)
+                .and("userCode").is(userCode));
+        return query;
+    }
+
     public SurveyDetailResponseDTO getSurveyDetail(String userCode, int projectInfoCode) {
         log.debug("설문조사 상세조회 시작");
 
@@ -230,17 +254,21 @@ public class SurveyService {
             }
         }
 
-        // projectInfoCode와 projectCode로
-        List<String> contributorsGithubId = projectContributorRepository
-            .findByProjectCodeAndProjectInfoCodeLessThanEqual(
+        // 설문 대상자(projectInfo 등록자)는 본인 설문에 참여할 수 없음
+        String githubId = user.getGithubId();
+        if (githubId == null || githubId.equals(projectInfo.getUser().getGithubId())) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+
+        // projectCode가 같고 현재 projectInfoCode 이하로 등록된 contributor인지 확인
+        boolean isContributor = projectContributorRepository
+            .existsByIdProjectCodeAndIdGithubIdAndIdProjectInfoCodeLessThanEqual(
                 projectInfo.getProject().getCode(),
+                githubId,
                 projectInfo.getCode()
-            )
-            .stream()
-            .filter(githubId -> !githubId.equals(projectInfo.getUser().getGithubId()))
-            .collect(Collectors.toList());
+            );
 
-        if(!contributorsGithubId.contains(user.getGithubId())){
+        if(!isContributor){
             throw new BusinessException(ErrorCode.ACCESS_DENIED);
         }
     }
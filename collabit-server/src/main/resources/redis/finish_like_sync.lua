@@ -0,0 +1,16 @@
+-- DB 반영이 끝난 게시글의 반영용 key 삭제
+-- 반영 중에 채워진 좋아요 수 캐시는 반영 중인 set을 제외했거나 DB에 일부만 들어간 값으로 계산되었을 수 있으므로 함께 삭제
+-- lock이 만료되어 다른 서버가 반영을 시작했으면 그 서버가 옮긴 *_sync:: key를 지우지 않도록 아무것도 하지 않고 -1 반환
+-- KEYS[1] like_sync_lock
+-- 게시글마다 KEYS 4개: like_sync::{postCode}  cancel_sync::{postCode}  likeCount::{postCode}  like_gen::{postCode}
+-- ARGV[1] like_gen TTL(초)  ARGV[2] lock token
+
+if redis.call('GET', KEYS[1]) ~= ARGV[2] then
+    return -1
+end
+for i = 2, #KEYS, 4 do
+    redis.call('DEL', KEYS[i], KEYS[i + 1], KEYS[i + 2])
+    redis.call('INCR', KEYS[i + 3])
+    redis.call('EXPIRE', KEYS[i + 3], ARGV[1])
+end
+return (#KEYS - 1) / 4
@@ -0,0 +1,15 @@
+-- 게시글의 반영 대기 좋아요/취소 set을 DB 반영용 key로 함께 옮김
+-- 두 set을 한 번에 옮기므로 한 사용자가 두 set에 동시에 들어있지 않음 (toggle_like.lua 참고)
+-- KEYS[1] like::{postCode}  KEYS[2] cancel::{postCode}  KEYS[3] like_sync::{postCode}  KEYS[4] cancel_sync::{postCode}
+-- 반환: 1 옮김 / 0 이전 반영이 끝나지 않아(중단 등) 옮기지 않음
+
+if redis.call('EXISTS', KEYS[3]) == 1 or redis.call('EXISTS', KEYS[4]) == 1 then
+    return 0
+end
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    redis.call('RENAME', KEYS[1], KEYS[3])
+end
+if redis.call('EXISTS', KEYS[2]) == 1 then
+    redis.call('RENAME', KEYS[2], KEYS[4])
+end
+return 1
@@ -0,0 +1,19 @@
+-- 인기 게시글 점수의 기준 시각을 현재로 옮김 (trending_incr.lua의 2^(경과/반감기)가 계속 커지지 않도록)
+-- 모든 점수에 2^(-(현재 - 기준 시각) / 반감기)를 곱하고, 기준 점수 이하로 떨어진 게시글은 제거
+-- KEYS[1] post_trending  KEYS[2] post_trending_epoch
+-- ARGV[1] 현재 시각(초)  ARGV[2] 반감기(초)  ARGV[3] 제거 기준 점수
+-- 반환: 남은 게시글 수
+
+local epoch = tonumber(redis.call('GET', KEYS[2]))
+if not epoch or tonumber(ARGV[1]) <= epoch then
+    return redis.call('ZCARD', KEYS[1])
+end
+
+local factor = 2 ^ (-(tonumber(ARGV[1]) - epoch) / tonumber(ARGV[2]))
+local entries = redis.call('ZRANGE', KEYS[1], 0, -1, 'WITHSCORES')
+for i = 1, #entries, 2 do
+    redis.call('ZADD', KEYS[1], tonumber(entries[i + 1]) * factor, entries[i])
+end
+redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[3])
+redis.call('SET', KEYS[2], ARGV[1])
+return redis.call('ZCARD', KEYS[1])
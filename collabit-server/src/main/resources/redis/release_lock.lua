@@ -0,0 +1,6 @@
+-- 자신이 잡은 lock일 때만 해제
+-- KEYS[1] lock key  ARGV[1] lock token
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
@@ -0,0 +1,53 @@
+-- 게시글 좋아요/취소를 한 번에 처리 (상태 확인, 좋아요 수 증감, DB 반영 대기 set 갱신, TTL 갱신)
+-- KEYS[1] isLiked::{userCode}likes{postCode}  KEYS[2] likeCount::{postCode}
+-- KEYS[3] like::{postCode} (반영 대기 좋아요)  KEYS[4] cancel::{postCode} (반영 대기 취소)
+-- KEYS[5] like_sync::{postCode}  KEYS[6] cancel_sync::{postCode} (DB 반영 중, LikeSyncService 참고)
+-- KEYS[7] like_gen::{postCode} (DB 반영이 끝날 때마다 증가)
+-- ARGV[1] userCode  ARGV[2] '1' 좋아요 / '0' 취소  ARGV[3] TTL(초)
+-- ARGV[4] DB 좋아요 여부 '1'/'0' (캐시가 없어 다시 호출할 때만, 아니면 '')  ARGV[5] DB 좋아요 수
+-- ARGV[6] DB 조회 전에 읽은 like_gen 값 (없으면 '')
+-- 반환: {-1, 0} 캐시 없음 / {0, 좋아요 수} 이미 같은 상태 / {1, 좋아요 수} 성공
+
+if ARGV[4] ~= '' then
+    -- DB 조회 이후 반영이 끝났으면 DB 값이 오래된 것이므로 다시 조회
+    if (redis.call('GET', KEYS[7]) or '') ~= ARGV[6] then
+        return {-1, 0}
+    end
+    -- DB 값에 아직 반영되지 않은 좋아요/취소를 더해 캐시를 채움 (그 사이 다른 요청이 채웠으면 유지)
+    -- 좋아요 여부: 반영 중인 set보다 나중에 쌓인 반영 대기 set이 우선 (DB 반영 여부와 관계없이 결과가 같음)
+    local seedLiked = ARGV[4] == '1'
+    if redis.call('SISMEMBER', KEYS[5], ARGV[1]) == 1 then seedLiked = true end
+    if redis.call('SISMEMBER', KEYS[6], ARGV[1]) == 1 then seedLiked = false end
+    if redis.call('SISMEMBER', KEYS[3], ARGV[1]) == 1 then seedLiked = true end
+    if redis.call('SISMEMBER', KEYS[4], ARGV[1]) == 1 then seedLiked = false end
+    -- 좋아요 수: 반영 중인 set은 DB에 일부만 들어갔을 수 있으므로 더하지 않음
+    -- (반영 중에 채운 값은 반영이 끝날 때 LikeSyncService가 지워 다시 채워짐)
+    local seedCount = tonumber(ARGV[5]) + redis.call('SCARD', KEYS[3]) - redis.call('SCARD', KEYS[4])
+    redis.call('SET', KEYS[1], seedLiked and 'true' or 'false', 'NX', 'EX', ARGV[3])
+    redis.call('SET', KEYS[2], seedCount, 'NX', 'EX', ARGV[3])
+end
+
+local liked = redis.call('GET', KEYS[1])
+local count = redis.call('GET', KEYS[2])
+if not liked or not count then
+    return {-1, 0}
+end
+
+local target = ARGV[2] == '1'
+if (liked == 'true') == target then
+    return {0, tonumber(count)}
+end
+
+redis.call('SET', KEYS[1], target and 'true' or 'false', 'EX', ARGV[3])
+local newCount = redis.call('INCRBY', KEYS[2], target and 1 or -1)
+redis.call('EXPIRE', KEYS[2], ARGV[3])
+
+-- 반대 요청이 반영 대기 중이면 서로 상쇄, 아니면 이번 요청을 반영 대기 set에 추가
+local addKey, removeKey = KEYS[3], KEYS[4]
+if not target then
+    addKey, removeKey = KEYS[4], KEYS[3]
+end
+if redis.call('SREM', removeKey, ARGV[1]) == 0 then
+    redis.call('SADD', addKey, ARGV[1])
+end
+return {1, newCount}
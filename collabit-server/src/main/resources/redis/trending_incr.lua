@@ -0,0 +1,20 @@
+-- 인기 게시글 점수 증가 (좋아요, 댓글, 게시글 작성 이벤트)
+-- 점수 = 이벤트 가중치 * 2^((이벤트 시각 - 기준 시각) / 반감기), 최근 이벤트일수록 크게 더해 이전 점수가 상대적으로 감소
+-- 좋아요 취소는 현재 시각 가중치로 빼므로 감쇠된 좋아요보다 크게 빠질 수 있음 -> 0 이하가 되면 순위에서 제거
+-- KEYS[1] post_trending (sorted set)  KEYS[2] post_trending_epoch (기준 시각, 초)
+-- ARGV[1] postCode  ARGV[2] 가중치  ARGV[3] 현재 시각(초)  ARGV[4] 반감기(초)  ARGV[5] 최대 보관 게시글 수
+
+local epoch = tonumber(redis.call('GET', KEYS[2]))
+if not epoch then
+    epoch = tonumber(ARGV[3])
+    redis.call('SET', KEYS[2], ARGV[3])
+end
+
+local increment = tonumber(ARGV[2]) * 2 ^ ((tonumber(ARGV[3]) - epoch) / tonumber(ARGV[4]))
+local score = tonumber(redis.call('ZINCRBY', KEYS[1], increment, ARGV[1]))
+if score <= 0 then
+    redis.call('ZREM', KEYS[1], ARGV[1])
+    return
+end
+-- 점수가 가장 낮은 게시글부터 제거해 최대 개수 유지
+redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[5]) + 1))
@@ -0,0 +1,167 @@
+package com.collabit.chat;
+
+import com.collabit.chat.domain.entity.ChatMessage;
+import com.collabit.chat.service.ChatMessageNgram;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 10만 건 이상 메시지가 있는 채팅방에서 검색 쿼리 지연을 측정하는 벤치마크
+// 예) ./gradlew test --tests '*ChatMessageSearchBenchmarkTest' -Dchat.benchmark.mongo-uri=mongodb://localhost:27017
+//       -Dchat.benchmark.messages=200000
+// 별도 데이터베이스(chat_search_benchmark)를 만들고 종료 시 삭제함
+// 운영과 같은 인덱스(ChatMessage의 @CompoundIndexes)를 만들고 검색 쿼리가 검색 인덱스만으로 정렬까지 처리하는지 확인
+@Slf4j
+@EnabledIfSystemProperty(named = "chat.benchmark.mongo-uri", matches = ".+")
+class ChatMessageSearchBenchmarkTest {
+
+    private static final String DATABASE = "chat_search_benchmark";
+    private static final int ROOM_CODE = 1;
+    private static final int SEARCH_ROUNDS = 50;
+    private static final List<String> WORDS = List.of(
+            "회의", "일정", "프로젝트", "배포", "리뷰", "점심", "내일", "오늘", "코드", "버그",
+            "수정", "확인", "부탁드립니다", "감사합니다", "Spring", "MongoDB", "테스트", "완료");
+
+    private final int messageCount = Integer.getInteger("chat.benchmark.messages", 100_000);
+
+    private MongoClient mongoClient;
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void setUp() {
+        mongoClient = MongoClients.create(System.getProperty("chat.benchmark.mongo-uri"));
+        mongoTemplate = new MongoTemplate(mongoClient, DATABASE);
+        mongoTemplate.dropCollection(ChatMessage.class);
+        IndexOperations indexOps = mongoTemplate.indexOps(ChatMessage.class);
+        IndexResolver.create(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(ChatMessage.class)
+                .forEach(indexOps::ensureIndex);
+
+        Random random = new Random(41);
+        LocalDateTime start = LocalDateTime.now().minusDays(30);
+        List<ChatMessage> batch = new ArrayList<>(1000);
+        for (int i = 0; i < messageCount; i++) {
+            String message = randomMessage(random);
+            batch.add(ChatMessage.builder()
+                    .roomCode(ROOM_CODE)
+                    .userCode(i % 2 == 0 ? "user1" : "user2")
+                    .nickname(i % 2 == 0 ? "유저1" : "유저2")
+                    .message(message)
+                    .searchGrams(ChatMessageNgram.of(message))
+                    .timestamp(start.plusSeconds(i))
+                    .build());
+            if (batch.size() == 1000) {
+                mongoTemplate.insert(batch, ChatMessage.class);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) mongoTemplate.insert(batch, ChatMessage.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mongoClient.getDatabase(DATABASE).drop();
+        mongoClient.close();
+    }
+
+    @Test
+    @DisplayName("n-gram 인덱스 검색과 정규식 전체 스캔 지연 비교")
+    void searchLatencyTest() {
+        for (String keyword : List.of("배포", "프로젝트", "감사합니다", "mongodb")) {
+            long indexedMillis = measure(() -> search(keyword, true));
+            long scanMillis = measure(() -> search(keyword, false));
+            log.info("keyword={} messages={} indexed(avg)={}ms regexScan(avg)={}ms",
+                    keyword, messageCount, indexedMillis, scanMillis);
+
+            assertThat(search(keyword, true)).isEqualTo(search(keyword, false));
+        }
+    }
+
+    @Test
+    @DisplayName("검색 쿼리는 검색 인덱스 IXSCAN만으로 최신순 정렬 (메모리 정렬 없음)")
+    void searchPlanTest() {
+        for (String keyword : List.of("배포", "프로젝트", "감사합니다", "mongodb")) {
+            Query query = searchQuery(keyword, true);
+            Document explain = mongoTemplate.getCollection(mongoTemplate.getCollectionName(ChatMessage.class))
+                    .find(query.getQueryObject())
+                    .sort(query.getSortObject())
+                    .hintString(query.getHint())
+                    .limit(query.getLimit())
+                    .explain();
+            Document winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+            List<Document> stages = new ArrayList<>();
+            collectStages(winningPlan, stages);
+            log.info("keyword={} winningPlan={}", keyword, stages.stream().map(stage -> stage.getString("stage")).toList());
+
+            assertThat(stages)
+                    .as("IXSCAN on %s for '%s'", ChatMessage.SEARCH_INDEX, keyword)
+                    .anyMatch(stage -> "IXSCAN".equals(stage.getString("stage"))
+                            && ChatMessage.SEARCH_INDEX.equals(stage.getString("indexName")));
+            assertThat(stages)
+                    .as("no blocking sort for '%s'", keyword)
+                    .noneMatch(stage -> "SORT".equals(stage.getString("stage")));
+        }
+    }
+
+    // ChatMessageSearchService와 같은 조건으로 최신 20건 조회
+    private List<String> search(String keyword, boolean useGrams) {
+        return mongoTemplate.find(searchQuery(keyword, useGrams), ChatMessage.class).stream().map(ChatMessage::get_id).toList();
+    }
+
+    private Query searchQuery(String keyword, boolean useGrams) {
+        Criteria criteria = Criteria.where("roomCode").is(ROOM_CODE);
+        if (useGrams) criteria = criteria.and("searchGrams").all(ChatMessageNgram.ofKeyword(keyword));
+        criteria = criteria.and("message").regex(Pattern.quote(keyword), "i");
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Order.desc("timestamp"), Sort.Order.desc("_id")))
+                .limit(20);
+        if (useGrams) query.withHint(ChatMessage.SEARCH_INDEX);
+        query.fields().exclude("searchGrams");
+        return query;
+    }
+
+    // explain 결과의 plan 트리에서 모든 stage 수집 (inputStage, inputStages, queryPlan)
+    private void collectStages(Object node, List<Document> stages) {
+        if (node instanceof Document document) {
+            if (document.containsKey("stage")) stages.add(document);
+            document.values().forEach(value -> collectStages(value, stages));
+        } else if (node instanceof Collection<?> values) {
+            values.forEach(value -> collectStages(value, stages));
+        }
+    }
+
+    private long measure(Runnable search) {
+        search.run(); // warm-up
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < SEARCH_ROUNDS; i++) search.run();
+        return (System.nanoTime() - startedAt) / SEARCH_ROUNDS / 1_000_000;
+    }
+
+    private String randomMessage(Random random) {
+        String[] words = new String[3 + random.nextInt(6)];
+        Arrays.setAll(words, i -> WORDS.get(random.nextInt(WORDS.size())));
+        return String.join(" ", words);
+    }
+}
@@ -0,0 +1,103 @@
+package com.collabit.chat;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 실행 중인 서버에 동시 채팅 세션을 열어 한 노드가 유지할 수 있는 세션 수와 fan-out 지연을 확인하는 부하 테스트
+// 예) ./gradlew test --tests '*ChatSessionLoadTest' -Dchat.loadtest.url=http://localhost:8080/ws/chat
+//       -Dchat.loadtest.token=<accessToken> -Dchat.loadtest.room=1 -Dchat.loadtest.sessions=2000
+// 서버의 /actuator/metrics/chat.websocket.* 지표와 함께 확인
+@Slf4j
+@EnabledIfSystemProperty(named = "chat.loadtest.url", matches = ".+")
+class ChatSessionLoadTest {
+
+    private final String url = System.getProperty("chat.loadtest.url");
+    private final String token = System.getProperty("chat.loadtest.token", "");
+    private final int roomCode = Integer.getInteger("chat.loadtest.room", 1);
+    private final int sessions = Integer.getInteger("chat.loadtest.sessions", 1000);
+
+    @Test
+    @DisplayName("동시 채팅 세션 연결 및 메시지 fan-out")
+    void concurrentSessionsTest() throws Exception {
+        // given: 동시 세션 연결 후 채팅방 구독
+        WebSocketStompClient stompClient = new WebSocketStompClient(
+                new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + token);
+
+        CountDownLatch received = new CountDownLatch(sessions);
+        AtomicInteger failed = new AtomicInteger();
+        ConcurrentLinkedQueue<StompSession> connected = new ConcurrentLinkedQueue<>();
+
+        long connectStartedAt = System.nanoTime();
+        CompletableFuture<?>[] connects = new CompletableFuture<?>[sessions];
+        for (int i = 0; i < sessions; i++) {
+            connects[i] = stompClient.connectAsync(url, new WebSocketHttpHeaders(), connectHeaders, new StompSessionHandlerAdapter() {})
+                    .thenAccept(session -> {
+                        session.subscribe("/topic/chat/" + roomCode, new StompFrameHandler() {
+                            @Override
+                            public Type getPayloadType(StompHeaders headers) {
+                                return Map.class;
+                            }
+
+                            @Override
+                            public void handleFrame(StompHeaders headers, Object payload) {
+                                received.countDown();
+                            }
+                        });
+                        connected.add(session);
+                    })
+                    .exceptionally(e -> {
+                        failed.incrementAndGet();
+                        received.countDown();
+                        return null;
+                    });
+        }
+        CompletableFuture.allOf(connects).exceptionally(e -> null).get(2, TimeUnit.MINUTES);
+        long connectMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - connectStartedAt);
+
+        assertThat(connected).isNotEmpty();
+
+        // when: 한 세션이 메시지를 보내면
+        Thread.sleep(1000); // 구독 등록 대기
+        long sendStartedAt = System.nanoTime();
+        connected.peek().send("/app/chat.message/" + roomCode,
+                Map.of("roomCode", roomCode, "nickname", "loadtest", "message", "load test"));
+        boolean allReceived = received.await(30, TimeUnit.SECONDS);
+        long fanOutMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sendStartedAt);
+
+        log.info("sessions={} connected={} failed={} connect={}ms fan-out={}ms (all received: {})",
+                sessions, connected.size(), failed.get(), connectMillis, fanOutMillis, allReceived);
+        connected.forEach(StompSession::disconnect);
+        stompClient.stop();
+
+        // then: 모든 세션이 연결되고 메시지를 받음
+        assertThat(failed.get()).as("failed sessions out of %d", sessions).isZero();
+        assertThat(allReceived).as("fan-out to %d sessions within 30s", connected.size()).isTrue();
+    }
+}
@@ -0,0 +1,152 @@
+package com.collabit.community.service;
+
+import com.collabit.community.domain.dto.LikeResponseDTO;
+import com.collabit.community.exception.DuplicateLikeException;
+import com.collabit.community.repository.PostLikeRepository;
+import com.collabit.community.repository.PostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 여러 클라이언트가 동시에 좋아요/취소할 때 좋아요 수와 반영 대기 set이 정확한지 확인
+// 예) ./gradlew test --tests '*LikeServiceConcurrencyTest' -Dredis.test.host=localhost
+@EnabledIfSystemProperty(named = "redis.test.host", matches = ".+")
+class LikeServiceConcurrencyTest {
+
+    private static final int POST_CODE = 987654321;
+    private static final int CLIENTS = 200;
+    private static final int DB_LIKE_COUNT = 10;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private LikeService likeService;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                System.getProperty("redis.test.host"), Integer.getInteger("redis.test.port", 6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+
+        // DB에는 다른 사용자의 좋아요 10개만 있음
+        PostRepository postRepository = mock(PostRepository.class);
+        when(postRepository.findLikeCountByCode(anyInt())).thenReturn(Optional.of(DB_LIKE_COUNT));
+        PostLikeRepository postLikeRepository = mock(PostLikeRepository.class);
+        when(postLikeRepository.existsById_UserCodeAndId_PostCode(anyString(), anyInt())).thenReturn(false);
+
+        likeService = new LikeService(redisTemplate, postRepository, postLikeRepository, mock(PostTrendingService.class));
+        executor = Executors.newFixedThreadPool(32);
+        clearKeys();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clearKeys();
+        executor.shutdownNow();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("서로 다른 사용자의 동시 좋아요는 하나도 유실되지 않음")
+    void concurrentLikesTest() throws Exception {
+        // when
+        runConcurrently(CLIENTS, i -> likeService.like("user-" + i, POST_CODE));
+
+        // then
+        assertThat(redisTemplate.opsForValue().get("likeCount::" + POST_CODE)).isEqualTo(String.valueOf(DB_LIKE_COUNT + CLIENTS));
+        assertThat(redisTemplate.opsForSet().size("like::" + POST_CODE)).isEqualTo(CLIENTS);
+    }
+
+    @Test
+    @DisplayName("동시 좋아요 후 절반이 동시에 취소하면 좋아요 수와 반영 대기 set이 일치")
+    void concurrentLikeAndCancelTest() throws Exception {
+        // given
+        runConcurrently(CLIENTS, i -> likeService.like("user-" + i, POST_CODE));
+
+        // when: 짝수 사용자만 취소
+        runConcurrently(CLIENTS / 2, i -> likeService.cancelLike("user-" + (i * 2), POST_CODE));
+
+        // then: 취소된 좋아요는 반영 대기 set에서 상쇄되고 cancel set에는 남지 않음
+        assertThat(redisTemplate.opsForValue().get("likeCount::" + POST_CODE))
+                .isEqualTo(String.valueOf(DB_LIKE_COUNT + CLIENTS / 2));
+        assertThat(redisTemplate.opsForSet().size("like::" + POST_CODE)).isEqualTo(CLIENTS / 2);
+        assertThat(redisTemplate.opsForSet().size("cancel::" + POST_CODE)).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 동시 좋아요는 한 번만 반영")
+    void duplicateConcurrentLikesTest() throws Exception {
+        // when
+        AtomicInteger duplicates = new AtomicInteger();
+        List<LikeResponseDTO> results = runConcurrently(CLIENTS, i -> {
+            try {
+                return likeService.like("same-user", POST_CODE);
+            } catch (DuplicateLikeException e) {
+                duplicates.incrementAndGet();
+                return null;
+            }
+        });
+
+        // then
+        assertThat(results.stream().filter(result -> result != null).count()).isEqualTo(1);
+        assertThat(duplicates.get()).isEqualTo(CLIENTS - 1);
+        assertThat(redisTemplate.opsForValue().get("likeCount::" + POST_CODE)).isEqualTo(String.valueOf(DB_LIKE_COUNT + 1));
+    }
+
+    // 모든 작업을 동시에 시작
+    private <T> List<T> runConcurrently(int count, Task<T> task) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            Callable<T> callable = () -> {
+                start.await();
+                return task.run(index);
+            };
+            futures.add(executor.submit(callable));
+        }
+        start.countDown();
+        List<T> results = new ArrayList<>();
+        for (Future<T> future : futures) {
+            results.add(future.get(10, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    private void clearKeys() {
+        redisTemplate.delete(List.of("likeCount::" + POST_CODE, "like::" + POST_CODE, "cancel::" + POST_CODE,
+                "isLiked::same-userlikes" + POST_CODE));
+        List<String> isLikedKeys = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            isLikedKeys.add("isLiked::user-" + i + "likes" + POST_CODE);
+        }
+        redisTemplate.delete(isLikedKeys);
+    }
+
+    @FunctionalInterface
+    private interface Task<T> {
+        T run(int index);
+    }
+}